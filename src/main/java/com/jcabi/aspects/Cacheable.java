@@ -4,11 +4,13 @@
  */
 package com.jcabi.aspects;
 
+import java.io.IOException;
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -67,8 +69,9 @@ public @interface Cacheable {
     /**
      * Time units of object lifetime.
      *
-     * <p>The minimum unit you can use is a second. We simply can't cache for
-     * less than a second, because cache is being cleaned every second.
+     * <p>Since 1.0 lifetimes shorter than a second are respected as well:
+     * an expired value is never returned from cache and is removed from
+     * memory within a hundred milliseconds after expiration.
      * @return The time unit
      */
     TimeUnit unit() default TimeUnit.MINUTES;
@@ -86,6 +89,211 @@ public @interface Cacheable {
      */
     boolean asyncUpdate() default false;
 
+    /**
+     * Part of the lifetime after which the value is recalculated in
+     * background, while the cached one is still returned.
+     *
+     * <p>For example, with {@code refreshAhead = 0.8} and a lifetime of
+     * ten minutes, the method is called again in the background after
+     * eight minutes, and the fresh value replaces the cached one before it
+     * expires. Thus, frequently used values never expire and are never
+     * calculated by the caller. Only values that were taken from cache at
+     * least once are refreshed. Zero means no refreshing ahead.
+     *
+     * @since 1.0
+     * @return The ratio, between zero and one
+     */
+    double refreshAhead() default 0.0d;
+
+    /**
+     * Types of exceptions to cache, together with their subtypes.
+     *
+     * <p>When the method throws one of them, the exception is kept in
+     * cache for {@link #negativeLifetime()} and is thrown to all callers
+     * with the same arguments, instead of calling the method again. It
+     * helps not to overload a service which is already failing. The same
+     * instance of the exception is thrown every time.
+     *
+     * <pre> &#64;Cacheable(
+     *   lifetime = 10, unit = TimeUnit.MINUTES,
+     *   negativeLifetime = 5, cacheExceptions = IOException.class
+     * )
+     * String load(String url) throws IOException {
+     *   // if it fails, it's not called again for five minutes
+     * }</pre>
+     *
+     * @since 1.0
+     * @return The array of types
+     */
+    Class<? extends Throwable>[] cacheExceptions() default { };
+
+    /**
+     * Lifetime of cached exceptions and empty results, in {@link #unit()}.
+     *
+     * <p>Results are empty if they are NULL or empty strings, collections,
+     * maps, arrays or optionals. Zero means that they are not kept in
+     * cache at all; exceptions are cached only if they are listed in
+     * {@link #cacheExceptions()}.
+     *
+     * @since 1.0
+     * @return The time amount, or {@code -1} to use the same lifetime
+     *  as for other results
+     */
+    int negativeLifetime() default -1;
+
+    /**
+     * Maximum amount of results of this method to keep in cache, for all
+     * targets and arguments together.
+     *
+     * <p>When the limit is reached, entries that were not used recently
+     * are evicted, even if they are not expired yet or are cached forever.
+     * Zero means that there is no limit.
+     *
+     * <p>The total amount of cached results of all methods may also be
+     * limited, with {@code jcabi.cacheable.max-size} system property.
+     *
+     * @since 1.0
+     * @return The maximum amount of entries
+     */
+    int maxSize() default 0;
+
+    /**
+     * Maximum weight of results of this method to keep in cache, in bytes,
+     * for all targets and arguments together.
+     *
+     * <p>Results are weighed by {@link #weigher()} and, when the limit is
+     * reached, entries that were not used recently are evicted, like with
+     * {@link #maxSize()}. Zero means that there is no limit.
+     *
+     * <p>The total weight of cached results of all methods may also be
+     * limited, with {@code jcabi.cacheable.max-weight} system property.
+     *
+     * @since 1.0
+     * @return The maximum weight, in bytes
+     */
+    long maxWeight() default 0L;
+
+    /**
+     * Weigher of cached results.
+     *
+     * <p>Results are weighed only if there is a limit of their weight,
+     * either {@link #maxWeight()} or the total one, or if the weigher is
+     * set explicitly. By default, the weight is estimated from the sizes
+     * of strings, arrays, collections and maps, and their elements. The
+     * class must have a public constructor without arguments.
+     *
+     * @since 1.0
+     * @return The type of weigher
+     */
+    Class<? extends Cacheable.Weigher> weigher() default Cacheable.Weigher.class;
+
+    /**
+     * Keep cached values serialized, outside of the heap.
+     *
+     * <p>Values are encoded by the {@link #codec()} and stored in direct
+     * byte buffers, while the cache keeps only small handles to them, which
+     * makes large values invisible to the garbage collector. Every cache hit
+     * decodes the value again, returning a new copy of it. If a value can't
+     * be encoded, it is cached in the heap, as usual.
+     *
+     * @since 1.0
+     * @return The flag
+     */
+    boolean offHeap() default false;
+
+    /**
+     * Codec of values kept off-heap, see {@link #offHeap()}.
+     *
+     * <p>The class must have a public constructor without arguments. By
+     * default, standard Java serialization is used.
+     *
+     * @since 1.0
+     * @return The type of codec
+     */
+    Class<? extends Cacheable.Codec> codec() default Cacheable.Codec.class;
+
+    /**
+     * Save cached results to a local file and load them back after a
+     * restart of the JVM, in order to avoid the cold start.
+     *
+     * <p>The file is set by {@code jcabi.cacheable.snapshot} system
+     * property, nothing is saved if it is not set. The file is written every
+     * minute and on shutdown. Results are restored only until the end of
+     * their original lifetimes. Only static methods are supported, since
+     * objects don't survive restarts; results with arguments or values
+     * that are not {@link java.io.Serializable} are skipped.
+     *
+     * @since 1.0
+     * @return The flag
+     */
+    boolean snapshot() default false;
+
+    /**
+     * Keep results in the second level store too, which may be shared
+     * with other JVMs.
+     *
+     * <p>The store is configured by {@code jcabi.cacheable.store} system
+     * property, see {@code com.jcabi.aspects.aj.CacheStore}; nothing is
+     * stored if it is not set. When a result is not in memory, it is
+     * looked up in the store before calling the method. Only static
+     * methods are supported, since objects can't be shared; arguments and
+     * results must be {@link java.io.Serializable}.
+     *
+     * @since 1.0
+     * @return The flag
+     */
+    boolean shared() default false;
+
+    /**
+     * Tags of cached values, to remove them from cache together.
+     *
+     * <p>All values of methods with a tag are removed from cache, for all
+     * objects, by a method annotated with {@link Cacheable.Evict}, or
+     * with {@code MethodCacher.invalidate()}. For example:
+     *
+     * <pre> class Users {
+     *   &#64;Cacheable(tags = "users")
+     *   User find(String name) {
+     *     // load the user
+     *   }
+     *   &#64;Cacheable.Evict(tags = "users")
+     *   void rename(String name, String fresh) {
+     *     // change the name, all found users are removed from cache
+     *   }
+     * }</pre>
+     *
+     * @since 1.0
+     * @return The tags
+     */
+    String[] tags() default { };
+
+    /**
+     * Extractor of the cache key from the arguments of the method.
+     *
+     * <p>By default, the key consists of all arguments, except the ones
+     * annotated with {@link Cacheable.Exclude}, or of only the ones
+     * annotated with {@link Cacheable.Include}, if there are any. When an
+     * extractor is set, it makes the key from all arguments and the
+     * annotations are ignored. The class must have a public constructor
+     * without arguments. For example:
+     *
+     * <pre> class Users {
+     *   &#64;Cacheable(key = ById.class)
+     *   User find(Request request) {
+     *     // find the user by request.userId()
+     *   }
+     *   public static final class ById implements Cacheable.Extractor {
+     *     public Object[] extract(Object... args) {
+     *       return new Object[] {((Request) args[0]).userId()};
+     *     }
+     *   }
+     * }</pre>
+     *
+     * @since 1.0
+     * @return The type of extractor
+     */
+    Class<? extends Cacheable.Extractor> key() default Cacheable.Extractor.class;
+
     /**
      * Before-flushing trigger(s).
      *
@@ -132,6 +340,97 @@ public @interface Cacheable {
      */
     Class<?>[] after() default { };
 
+    /**
+     * Codec of cached values, which turns them into bytes and back.
+     *
+     * <p>Implementations must be thread-safe.
+     *
+     * @since 1.0
+     */
+    interface Codec {
+        /**
+         * Encode a value.
+         * @param value The value, never NULL
+         * @return Bytes, from the position to the limit of the buffer
+         * @throws IOException If the value can't be encoded
+         */
+        ByteBuffer encode(Object value) throws IOException;
+
+        /**
+         * Decode a value.
+         * @param bytes Read-only bytes, from the position to the limit
+         * @return The value
+         * @throws IOException If the value can't be decoded
+         */
+        Object decode(ByteBuffer bytes) throws IOException;
+    }
+
+    /**
+     * Extractor of the cache key from the arguments, see {@link #key()}.
+     *
+     * <p>Implementations must be thread-safe.
+     *
+     * @since 1.0
+     */
+    interface Extractor {
+        /**
+         * Make the key.
+         * @param args All arguments of the method
+         * @return Parts of the key, compared with each other deeply
+         */
+        Object[] extract(Object... args);
+    }
+
+    /**
+     * Weigher of cached results, see {@link #weigher()}.
+     *
+     * <p>Implementations must be thread-safe.
+     *
+     * @since 1.0
+     */
+    interface Weigher {
+        /**
+         * Weigh a result.
+         * @param value The result, may be NULL
+         * @return Approximate amount of memory it takes, in bytes
+         */
+        long weigh(Object value);
+    }
+
+    /**
+     * Marks an argument which is a part of the cache key; when there are
+     * such arguments, all others are not.
+     *
+     * <pre> &#64;Cacheable
+     * Price price(&#64;Cacheable.Include String sku, Context context) {
+     *   // the price is cached by SKU only
+     * }</pre>
+     *
+     * @since 1.0
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.PARAMETER)
+    @interface Include {
+    }
+
+    /**
+     * Marks an argument which is not a part of the cache key, like
+     * a logger or a context of the request.
+     *
+     * <pre> &#64;Cacheable
+     * Price price(String sku, &#64;Cacheable.Exclude Context context) {
+     *   // the price is cached by SKU only
+     * }</pre>
+     *
+     * @since 1.0
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.PARAMETER)
+    @interface Exclude {
+    }
+
     /**
      * Identifies a method that should flush all cached entities of
      * this class/object.
@@ -167,4 +466,21 @@ public @interface Cacheable {
     @interface FlushAfter {
     }
 
+    /**
+     * Identifies a method that should remove from cache all values with
+     * the given tags, of all objects, after being executed, see
+     * {@link Cacheable#tags()}.
+     * @since 1.0
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @interface Evict {
+        /**
+         * Tags to remove.
+         * @return The tags
+         */
+        String[] tags();
+    }
+
 }
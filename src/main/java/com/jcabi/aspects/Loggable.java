@@ -204,6 +204,25 @@ public @interface Loggable {
      */
     int logException() default -1;
 
+    /**
+     * Log asynchronously, in a background thread.
+     *
+     * <p>The calling thread only puts the facts of the call (the join
+     * point, the result or the exception, and the duration) into a ring
+     * buffer, while log lines are made and sent to the logger by a
+     * background thread. Arguments and results are rendered later, so
+     * their mutable state may change meanwhile.
+     *
+     * <p>The size of the buffer is set by {@code jcabi.loggable.buffer}
+     * system property (1024 by default). When the buffer is full, lines
+     * are dropped, or the calling thread waits for free space, if
+     * {@code jcabi.loggable.overflow} system property is {@code block}.
+     *
+     * @since 1.0
+     * @return The flag
+     */
+    boolean async() default false;
+
     /**
      * Identifies an exception that is never logged by {@link Loggable} if/when
      * being thrown out of an annotated method.
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Transport of invalidations of cached values between a few JVMs, each
+ * one with its own {@link MethodCacher}.
+ *
+ * <p>Values flushed with {@code @Cacheable.FlushBefore} or
+ * {@code @Cacheable.FlushAfter} and values removed by tags, in one JVM,
+ * are removed in all others too. Since objects can't be identified
+ * across JVMs, a flush of one object removes in other JVMs the values of
+ * all objects of its class, including values of methods it inherits.
+ *
+ * <p>The bus is configured by {@code jcabi.cacheable.bus} system
+ * property, with the name of the class, which must have a public
+ * constructor without arguments. If the property is not set, the first
+ * implementation found by {@link java.util.ServiceLoader} is used. There
+ * is no bus by default. See {@link LocalBus} and {@link FileBus}.
+ *
+ * <p>Events are short strings, which the bus delivers as they are, in
+ * batches. The bus must not deliver events back to the JVM which
+ * published them. All methods must be thread-safe.
+ *
+ * @since 1.0
+ */
+public interface CacheBus extends Closeable {
+
+    /**
+     * Event which removes all cached values, a bus may deliver it when
+     * some events might have been lost.
+     */
+    String EVERYTHING = "*";
+
+    /**
+     * Send a batch of events to all other JVMs.
+     * @param events The events
+     */
+    void publish(Collection<String> events);
+
+    /**
+     * Start receiving batches of events from other JVMs, it is called
+     * only once.
+     * @param listener Where to deliver them
+     */
+    void subscribe(Consumer<Collection<String>> listener);
+
+    /**
+     * Stop receiving batches and release resources of the bus, nothing
+     * is delivered to the listener afterwards.
+     */
+    @Override
+    default void close() {
+        // nothing to release by default
+    }
+
+}
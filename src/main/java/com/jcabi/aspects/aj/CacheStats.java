@@ -0,0 +1,296 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Loggable;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Statistics of one cached method, collected by {@link MethodCacher}.
+ *
+ * <p>Counters are {@link LongAdder}s, so that threads calling the same
+ * method don't compete for one memory location.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class CacheStats implements MethodCacherMBean {
+
+    /**
+     * Signature of the method.
+     */
+    private final transient String method;
+
+    /**
+     * Current amount of values in cache.
+     */
+    private final transient LongSupplier size;
+
+    /**
+     * Current weight of values in cache, in bytes.
+     */
+    private final transient LongSupplier weight;
+
+    /**
+     * Hits.
+     */
+    private final transient LongAdder hits;
+
+    /**
+     * Misses.
+     */
+    private final transient LongAdder misses;
+
+    /**
+     * Calls of the method.
+     */
+    private final transient LongAdder loads;
+
+    /**
+     * Time spent in the method, in nanoseconds.
+     */
+    private final transient LongAdder nanos;
+
+    /**
+     * Evictions.
+     */
+    private final transient LongAdder evictions;
+
+    /**
+     * Expirations.
+     */
+    private final transient LongAdder expirations;
+
+    /**
+     * Asynchronous updates.
+     */
+    private final transient LongAdder refreshes;
+
+    /**
+     * Ctor.
+     * @param mtd The method
+     * @param amount Current amount of values in cache
+     */
+    CacheStats(final Method mtd, final LongSupplier amount) {
+        this(mtd, amount, () -> 0L);
+    }
+
+    /**
+     * Ctor.
+     * @param mtd The method
+     * @param amount Current amount of values in cache
+     * @param bytes Current weight of values in cache, in bytes
+     */
+    CacheStats(final Method mtd, final LongSupplier amount,
+        final LongSupplier bytes) {
+        this.method = CacheStats.signature(mtd);
+        this.size = amount;
+        this.weight = bytes;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.loads = new LongAdder();
+        this.nanos = new LongAdder();
+        this.evictions = new LongAdder();
+        this.expirations = new LongAdder();
+        this.refreshes = new LongAdder();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s: %d hit(s), %d miss(es), %d value(s)",
+            this.method, this.hits.sum(), this.misses.sum(),
+            this.size.getAsLong()
+        );
+    }
+
+    /**
+     * Register it in the platform MBean server.
+     *
+     * <p>If it fails, for example because the same class is loaded by
+     * a few class loaders, the failure is logged and ignored.
+     */
+    public void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                new StandardMBean(this, MethodCacherMBean.class),
+                new ObjectName(
+                    String.format(
+                        "com.jcabi.aspects:type=MethodCacher,name=%s",
+                        ObjectName.quote(this.method)
+                    )
+                )
+            );
+        } catch (final JMException ex) {
+            LogHelper.log(
+                Loggable.WARN,
+                CacheStats.class,
+                "Can't register statistics of %s in JMX: %s",
+                this.method,
+                ex.getMessage()
+            );
+        }
+    }
+
+    /**
+     * The value was found in cache.
+     */
+    public void hit() {
+        this.hits.increment();
+    }
+
+    /**
+     * The value was not found in cache.
+     */
+    public void miss() {
+        this.misses.increment();
+    }
+
+    /**
+     * The method was called.
+     * @param time How long it took, in nanoseconds
+     */
+    public void loaded(final long time) {
+        this.loads.increment();
+        this.nanos.add(time);
+    }
+
+    /**
+     * The value was evicted.
+     */
+    public void evicted() {
+        this.evictions.increment();
+    }
+
+    /**
+     * The value expired.
+     */
+    public void expired() {
+        this.expirations.increment();
+    }
+
+    /**
+     * The value was updated asynchronously.
+     */
+    public void refreshed() {
+        this.refreshes.increment();
+    }
+
+    @Override
+    public String getMethod() {
+        return this.method;
+    }
+
+    @Override
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        final long hit = this.hits.sum();
+        final long total = hit + this.misses.sum();
+        final double rate;
+        if (total == 0L) {
+            rate = 0.0d;
+        } else {
+            rate = (double) hit / (double) total;
+        }
+        return rate;
+    }
+
+    @Override
+    public long getLoads() {
+        return this.loads.sum();
+    }
+
+    @Override
+    public long getLoadTime() {
+        return TimeUnit.NANOSECONDS.toMillis(this.nanos.sum());
+    }
+
+    @Override
+    public double getAverageLoadTime() {
+        final long total = this.loads.sum();
+        final double average;
+        if (total == 0L) {
+            average = 0.0d;
+        } else {
+            average = (double) this.nanos.sum() / (double) total / 1.0e6d;
+        }
+        return average;
+    }
+
+    @Override
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    @Override
+    public long getExpirations() {
+        return this.expirations.sum();
+    }
+
+    @Override
+    public long getRefreshes() {
+        return this.refreshes.sum();
+    }
+
+    @Override
+    public long getSize() {
+        return this.size.getAsLong();
+    }
+
+    @Override
+    public long getWeight() {
+        return this.weight.getAsLong();
+    }
+
+    @Override
+    public void reset() {
+        this.hits.reset();
+        this.misses.reset();
+        this.loads.reset();
+        this.nanos.reset();
+        this.evictions.reset();
+        this.expirations.reset();
+        this.refreshes.reset();
+    }
+
+    /**
+     * Full signature of the method, unique among its overloads.
+     * @param mtd The method
+     * @return Class, name and full names of types of arguments
+     */
+    private static String signature(final Method mtd) {
+        final StringBuilder text = new StringBuilder(0)
+            .append(mtd.getDeclaringClass().getName())
+            .append('.')
+            .append(mtd.getName())
+            .append('(');
+        final Class<?>[] types = mtd.getParameterTypes();
+        for (int idx = 0; idx < types.length; ++idx) {
+            if (idx > 0) {
+                text.append(',');
+            }
+            text.append(types[idx].getTypeName());
+        }
+        return text.append(')').toString();
+    }
+}
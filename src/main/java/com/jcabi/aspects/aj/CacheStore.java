@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Second level store of cached values, behind the in-memory cache of
+ * {@link MethodCacher}, for example on disk or in another process, which
+ * may be shared by a few JVMs.
+ *
+ * <p>Results of static methods annotated with
+ * {@code @Cacheable(shared = true)} are looked up in the store when they
+ * are not in memory, and are saved there after the method is called.
+ * Entries flushed with {@code @Cacheable.FlushBefore} or
+ * {@code @Cacheable.FlushAfter} are removed from the store too, while
+ * entries evicted from memory stay there.
+ *
+ * <p>The store is configured by {@code jcabi.cacheable.store} system
+ * property, with the name of the class, which must have a public
+ * constructor without arguments. If the property is not set, the first
+ * implementation found by {@link java.util.ServiceLoader} is used. There
+ * is no store by default. See {@link FileStore}.
+ *
+ * <p>A key is a list of the signature of the method and all its
+ * arguments, which must be {@link Serializable}. Values which are not
+ * serializable can't be stored. All methods may complete their futures
+ * asynchronously and must be thread-safe.
+ *
+ * @since 1.0
+ */
+public interface CacheStore {
+
+    /**
+     * Load entries.
+     * @param keys Keys to find
+     * @return Entries found, absent keys are not in the map
+     */
+    CompletableFuture<Map<List<Object>, CacheStore.Entry>> load(
+        Collection<List<Object>> keys
+    );
+
+    /**
+     * Save entries, replacing the existing ones.
+     * @param entries Entries to save
+     * @return Completed when they are saved
+     */
+    CompletableFuture<Void> save(Map<List<Object>, CacheStore.Entry> entries);
+
+    /**
+     * Remove entries.
+     * @param keys Keys to remove
+     * @return Completed when they are removed
+     */
+    CompletableFuture<Void> remove(Collection<List<Object>> keys);
+
+    /**
+     * Cached value with its deadline.
+     *
+     * @since 1.0
+     */
+    final class Entry implements Serializable {
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 0x2c61e8f94ab37d05L;
+
+        /**
+         * The value.
+         */
+        private final Object value;
+
+        /**
+         * When it expires, in milliseconds since the epoch.
+         */
+        private final long deadline;
+
+        /**
+         * Ctor.
+         * @param val The value
+         * @param when When it expires, in milliseconds since the epoch
+         */
+        public Entry(final Object val, final long when) {
+            this.value = val;
+            this.deadline = when;
+        }
+
+        /**
+         * The value.
+         * @return The value
+         */
+        public Object value() {
+            return this.value;
+        }
+
+        /**
+         * When it expires.
+         * @return Milliseconds since the epoch
+         */
+        public long deadline() {
+            return this.deadline;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+/**
+ * Source of current time, used by {@link MethodCacher} to decide whether
+ * cached values are expired.
+ *
+ * @since 1.0
+ */
+interface Clock {
+
+    /**
+     * Current time.
+     * @return Milliseconds since the epoch
+     */
+    long millis();
+
+}
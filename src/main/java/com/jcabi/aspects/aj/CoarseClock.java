@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.log.VerboseRunnable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clock of low resolution, updated by a background thread.
+ *
+ * <p>Reading it costs a read of a volatile field, the OS clock is never
+ * touched by the callers. The time it shows may be behind the real one,
+ * but not more than by the resolution, if the machine is not overloaded.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class CoarseClock implements Clock {
+
+    /**
+     * Current time, in milliseconds.
+     */
+    private transient volatile long now;
+
+    /**
+     * Service that updates the time.
+     */
+    @SuppressWarnings("PMD.SingularField")
+    private final transient ScheduledExecutorService ticker;
+
+    /**
+     * Ctor.
+     * @param msec Resolution, in milliseconds
+     */
+    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+    CoarseClock(final long msec) {
+        this.now = System.currentTimeMillis();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(
+            new NamedThreads(
+                "cacheable-clock",
+                "coarse clock of @Cacheable values"
+            )
+        );
+        this.ticker.scheduleAtFixedRate(
+            new VerboseRunnable(this::tick),
+            msec, msec, TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public long millis() {
+        return this.now;
+    }
+
+    /**
+     * Update the time.
+     */
+    private void tick() {
+        this.now = System.currentTimeMillis();
+    }
+
+}
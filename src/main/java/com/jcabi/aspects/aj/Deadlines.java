@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * Items ordered by their deadlines, used in {@link MethodCacher} to find
+ * expired entries without scanning the entire cache.
+ *
+ * <p>Deadlines are rounded up to ticks of the given resolution and items
+ * with the same tick share one bucket, like in a timing wheel. Adding an
+ * item costs a lookup of its bucket (there are not more buckets than
+ * ticks in the longest lifetime), expiring it costs nothing but a removal
+ * from the bucket. An item is never delivered before its deadline, but
+ * it may be delivered twice, if it is added while its bucket is being
+ * expired; consumers must tolerate that.
+ *
+ * <p>Items are compared by their {@code equals()}. An item, which is not
+ * needed any more, may be cancelled earlier, in order not to keep it
+ * in memory until its deadline.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @param <T> Type of items
+ * @since 1.0
+ */
+final class Deadlines<T> {
+
+    /**
+     * Resolution of ticks, in milliseconds.
+     */
+    private final transient long resolution;
+
+    /**
+     * Buckets of items, by ticks.
+     */
+    private final transient ConcurrentNavigableMap<Long, Set<T>> buckets;
+
+    /**
+     * Ctor.
+     * @param msec Resolution of ticks, in milliseconds
+     */
+    Deadlines(final long msec) {
+        this.resolution = msec;
+        this.buckets = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Add an item.
+     * @param item The item
+     * @param deadline When it should be delivered, in milliseconds
+     */
+    public void schedule(final T item, final long deadline) {
+        final long tick = this.tick(deadline);
+        Set<T> bucket;
+        do {
+            bucket = this.buckets.computeIfAbsent(
+                tick, key -> ConcurrentHashMap.newKeySet()
+            );
+            bucket.add(item);
+        } while (this.buckets.get(tick) != bucket);
+    }
+
+    /**
+     * Remove an item, which was added with this deadline, if it is
+     * still there.
+     * @param item The item
+     * @param deadline Its deadline, in milliseconds
+     */
+    public void cancel(final T item, final long deadline) {
+        final Set<T> bucket = this.buckets.get(this.tick(deadline));
+        if (bucket != null) {
+            bucket.remove(item);
+        }
+    }
+
+    /**
+     * Deliver all items whose deadlines have come.
+     * @param now Current time, in milliseconds
+     * @param consumer Where to deliver them
+     */
+    public void expire(final long now, final Consumer<T> consumer) {
+        final long tick = now / this.resolution;
+        while (true) {
+            final Map.Entry<Long, Set<T>> entry = this.buckets.firstEntry();
+            if (entry == null || entry.getKey() > tick) {
+                break;
+            }
+            Deadlines.drain(entry.getValue(), consumer);
+            this.buckets.remove(entry.getKey(), entry.getValue());
+            Deadlines.drain(entry.getValue(), consumer);
+        }
+    }
+
+    /**
+     * Amount of buckets.
+     * @return Amount
+     */
+    public int size() {
+        return this.buckets.size();
+    }
+
+    /**
+     * Tick of the deadline, rounded up.
+     * @param deadline The deadline, in milliseconds
+     * @return The tick
+     */
+    private long tick(final long deadline) {
+        return (deadline + this.resolution - 1L) / this.resolution;
+    }
+
+    /**
+     * Deliver all items of the bucket, each one only if it's not
+     * cancelled or delivered by someone else meanwhile.
+     * @param bucket The bucket
+     * @param consumer Where to deliver them
+     * @param <T> Type of items
+     */
+    private static <T> void drain(final Set<T> bucket,
+        final Consumer<T> consumer) {
+        for (final T item : bucket) {
+            if (bucket.remove(item)) {
+                consumer.accept(item);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Cacheable;
+import com.jcabi.aspects.Immutable;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Weigher of cached values, which estimates their sizes on a 64-bit JVM
+ * with compressed references.
+ *
+ * <p>Strings, boxed primitives, arrays, collections, maps and optionals
+ * are weighed with their elements, up to the given depth; deeper
+ * elements and all other objects are counted as empty objects. The
+ * estimation is cheap and rough, it doesn't follow fields of objects.
+ *
+ * @since 1.0
+ */
+@Immutable
+final class Estimator implements Cacheable.Weigher {
+
+    /**
+     * Size of an empty object.
+     */
+    private static final long OBJECT = 16L;
+
+    /**
+     * Size of a reference.
+     */
+    private static final long REFERENCE = 4L;
+
+    /**
+     * Size of a node of a collection or a map.
+     */
+    private static final long NODE = 32L;
+
+    /**
+     * How deep to go into elements.
+     */
+    private final transient int depth;
+
+    /**
+     * Ctor, which weighs elements up to four levels deep.
+     */
+    Estimator() {
+        this(4);
+    }
+
+    /**
+     * Ctor.
+     * @param levels How deep to go into elements, zero to weigh
+     *  only the value itself
+     */
+    Estimator(final int levels) {
+        this.depth = levels;
+    }
+
+    @Override
+    public long weigh(final Object value) {
+        return Estimator.weigh(value, this.depth);
+    }
+
+    /**
+     * Weigh a value.
+     * @param value The value
+     * @param levels How deep to go into its elements
+     * @return Approximate size in bytes
+     */
+    private static long weigh(final Object value, final int levels) {
+        final long size;
+        if (value == null) {
+            size = 0L;
+        } else if (value instanceof CharSequence) {
+            size = Estimator.OBJECT * 2L
+                + 2L * (long) ((CharSequence) value).length();
+        } else if (value instanceof Number || value instanceof Boolean
+            || value instanceof Character) {
+            size = Estimator.OBJECT;
+        } else if (value.getClass().isArray()) {
+            size = Estimator.array(value, levels);
+        } else if (value instanceof Collection) {
+            long sum = Estimator.OBJECT * 2L;
+            for (final Object item : (Collection<?>) value) {
+                sum += Estimator.NODE + Estimator.element(item, levels);
+            }
+            size = sum;
+        } else if (value instanceof Map) {
+            long sum = Estimator.OBJECT * 3L;
+            for (final Map.Entry<?, ?> entry
+                : ((Map<?, ?>) value).entrySet()) {
+                sum += Estimator.NODE
+                    + Estimator.element(entry.getKey(), levels)
+                    + Estimator.element(entry.getValue(), levels);
+            }
+            size = sum;
+        } else if (value instanceof Optional) {
+            size = Estimator.OBJECT
+                + Estimator.element(((Optional<?>) value).orElse(null), levels);
+        } else {
+            size = Estimator.OBJECT;
+        }
+        return size;
+    }
+
+    /**
+     * Weigh an array.
+     * @param array The array
+     * @param levels How deep to go into its elements
+     * @return Approximate size in bytes
+     */
+    private static long array(final Object array, final int levels) {
+        final int length = Array.getLength(array);
+        final Class<?> type = array.getClass().getComponentType();
+        long size = Estimator.OBJECT;
+        if (type.isPrimitive()) {
+            size += (long) length * Estimator.width(type);
+        } else {
+            size += (long) length * Estimator.REFERENCE;
+            for (int idx = 0; idx < length; ++idx) {
+                size += Estimator.element(Array.get(array, idx), levels);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Weigh an element of a container.
+     * @param item The element
+     * @param levels How deep to go into the container
+     * @return Approximate size in bytes
+     */
+    private static long element(final Object item, final int levels) {
+        final long size;
+        if (item == null) {
+            size = 0L;
+        } else if (levels > 0) {
+            size = Estimator.weigh(item, levels - 1);
+        } else {
+            size = Estimator.OBJECT;
+        }
+        return size;
+    }
+
+    /**
+     * Size of a primitive.
+     * @param type The type
+     * @return Size in bytes
+     */
+    private static long width(final Class<?> type) {
+        final long width;
+        if (type == long.class || type == double.class) {
+            width = 8L;
+        } else if (type == int.class || type == float.class) {
+            width = 4L;
+        } else if (type == short.class || type == char.class) {
+            width = 2L;
+        } else {
+            width = 1L;
+        }
+        return width;
+    }
+
+}
@@ -0,0 +1,338 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.VerboseRunnable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Bus of invalidations between JVMs on the same host, through a shared
+ * file.
+ *
+ * <p>The file is set by {@code jcabi.cacheable.bus-file} system property,
+ * {@code jcabi-cacheable.bus} in the temporary directory by default.
+ * Batches are appended to the file, each one with the identifier of its
+ * bus, under an exclusive lock of the file, and every bus reads new
+ * batches of others every 100 milliseconds, under a shared lock. When
+ * the file grows over 1Mb, it is truncated by the next batch and the
+ * generation in its header is incremented; a bus which notices that
+ * delivers {@link CacheBus#EVERYTHING}, since it might have missed
+ * some batches.
+ *
+ * <p>To use it, set {@code jcabi.cacheable.bus} system property to
+ * {@code com.jcabi.aspects.aj.FileBus}.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public final class FileBus implements CacheBus {
+
+    /**
+     * Name of the system property with the file.
+     */
+    private static final String FILE = "jcabi.cacheable.bus-file";
+
+    /**
+     * Size of the header, with the generation of the file.
+     */
+    private static final long HEADER = (long) Long.BYTES;
+
+    /**
+     * Maximum size of the file, in bytes, before it's truncated.
+     */
+    private static final long LIMIT = 1L << 20;
+
+    /**
+     * How often new batches are read, in milliseconds.
+     */
+    private static final long TICK = 100L;
+
+    /**
+     * Lock of all buses of the JVM, since file locks can't overlap
+     * inside one JVM.
+     */
+    private static final Object MUTEX = new Object();
+
+    /**
+     * The file.
+     */
+    private final transient Path file;
+
+    /**
+     * Identifier of this bus.
+     */
+    private final transient long sender;
+
+    /**
+     * Service that reads new batches.
+     */
+    private final transient ScheduledExecutorService reader;
+
+    /**
+     * Generation of the file, already read.
+     */
+    private transient long generation;
+
+    /**
+     * Position in the file, already read.
+     */
+    private transient long offset;
+
+    /**
+     * Where to deliver batches, NULL if not subscribed yet.
+     */
+    private transient volatile Consumer<Collection<String>> listener;
+
+    /**
+     * Public ctor, with the file from the system property.
+     */
+    public FileBus() {
+        this(
+            Paths.get(
+                System.getProperty(
+                    FileBus.FILE,
+                    Paths.get(
+                        System.getProperty("java.io.tmpdir"),
+                        "jcabi-cacheable.bus"
+                    ).toString()
+                )
+            )
+        );
+    }
+
+    /**
+     * Public ctor.
+     * @param path The file
+     */
+    public FileBus(final Path path) {
+        this.file = path;
+        this.sender = ThreadLocalRandom.current().nextLong();
+        this.reader = Executors.newSingleThreadScheduledExecutor(
+            new NamedThreads(
+                "cacheable-bus",
+                "reading of @Cacheable invalidations from a file"
+            )
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.file.toString();
+    }
+
+    @Override
+    public void publish(final Collection<String> events) {
+        final byte[] text = String.join("\n", events)
+            .getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer record = ByteBuffer.allocate(
+            Integer.BYTES + Long.BYTES + text.length
+        );
+        record.putInt(Long.BYTES + text.length);
+        record.putLong(this.sender);
+        record.put(text);
+        record.flip();
+        try {
+            this.locked(
+                false,
+                channel -> {
+                    long gen = FileBus.generation(channel);
+                    if (channel.size() < FileBus.HEADER
+                        || channel.size() > FileBus.LIMIT) {
+                        if (channel.size() > FileBus.LIMIT) {
+                            ++gen;
+                        }
+                        channel.truncate(0L);
+                        final ByteBuffer header = ByteBuffer.allocate(
+                            Long.BYTES
+                        );
+                        header.putLong(gen);
+                        header.flip();
+                        channel.write(header, 0L);
+                    }
+                    channel.write(record, channel.size());
+                }
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void subscribe(final Consumer<Collection<String>> consumer) {
+        try {
+            this.locked(
+                true,
+                channel -> {
+                    this.generation = FileBus.generation(channel);
+                    this.offset = Math.max(channel.size(), FileBus.HEADER);
+                }
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        this.listener = consumer;
+        this.reader.scheduleWithFixedDelay(
+            new VerboseRunnable(this::receive, true),
+            FileBus.TICK, FileBus.TICK, TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public void close() {
+        this.reader.shutdown();
+        this.listener = null;
+    }
+
+    /**
+     * Read new batches of other buses and deliver them.
+     */
+    private void receive() {
+        final Collection<String> events = new LinkedList<>();
+        try {
+            this.locked(true, channel -> this.read(channel, events));
+        } catch (final IOException ex) {
+            LogHelper.log(
+                Loggable.WARN,
+                FileBus.class,
+                "Can't read @Cacheable invalidations from %s: %s",
+                this.file,
+                ex.getMessage()
+            );
+        }
+        if (!events.isEmpty()) {
+            this.listener.accept(events);
+        }
+    }
+
+    /**
+     * Read new batches of other buses.
+     *
+     * <p>If the file was truncated or recreated behind our back, or a
+     * record in it is broken, we start again from its end and deliver
+     * {@link CacheBus#EVERYTHING}, since some batches might be missed.
+     *
+     * @param channel The file
+     * @param events Where to put their events
+     * @throws IOException If fails
+     */
+    private void read(final FileChannel channel,
+        final Collection<String> events) throws IOException {
+        final long gen = FileBus.generation(channel);
+        final long size = channel.size();
+        long pos = this.offset;
+        if (gen != this.generation || pos > size) {
+            events.add(CacheBus.EVERYTHING);
+            this.generation = gen;
+            pos = FileBus.HEADER;
+        }
+        final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        while (pos + Integer.BYTES <= size) {
+            length.clear();
+            channel.read(length, pos);
+            length.flip();
+            final int bytes = length.getInt();
+            if (bytes < Long.BYTES || bytes > size - pos - Integer.BYTES) {
+                events.add(CacheBus.EVERYTHING);
+                pos = size;
+                break;
+            }
+            final ByteBuffer record = ByteBuffer.allocate(bytes);
+            channel.read(record, pos + Integer.BYTES);
+            record.flip();
+            if (record.getLong() != this.sender) {
+                events.addAll(
+                    Arrays.asList(
+                        new String(
+                            record.array(), Long.BYTES,
+                            record.remaining(), StandardCharsets.UTF_8
+                        ).split("\n")
+                    )
+                );
+            }
+            pos += (long) Integer.BYTES + (long) record.capacity();
+        }
+        this.offset = pos;
+    }
+
+    /**
+     * Do something with the file, while it's locked.
+     * @param shared TRUE if the lock is shared
+     * @param action What to do
+     * @throws IOException If fails
+     */
+    private void locked(final boolean shared, final FileBus.Action action)
+        throws IOException {
+        final Path dir = this.file.toAbsolutePath().getParent();
+        synchronized (FileBus.MUTEX) {
+            Files.createDirectories(dir);
+            try (FileChannel channel = FileChannel.open(
+                this.file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            )) {
+                final FileLock lock = channel.lock(0L, Long.MAX_VALUE, shared);
+                try {
+                    action.exec(channel);
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the generation of the file.
+     * @param channel The file
+     * @return The generation, zero if there is no header yet
+     * @throws IOException If fails
+     */
+    private static long generation(final FileChannel channel)
+        throws IOException {
+        long gen = 0L;
+        if (channel.size() >= FileBus.HEADER) {
+            final ByteBuffer header = ByteBuffer.allocate(Long.BYTES);
+            channel.read(header, 0L);
+            header.flip();
+            gen = header.getLong();
+        }
+        return gen;
+    }
+
+    /**
+     * Action with a locked file.
+     *
+     * @since 1.0
+     */
+    private interface Action {
+        /**
+         * Do it.
+         * @param channel The file
+         * @throws IOException If fails
+         */
+        void exec(FileChannel channel) throws IOException;
+    }
+
+}
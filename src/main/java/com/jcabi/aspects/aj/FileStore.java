@@ -0,0 +1,302 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Loggable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Store of cached values in a local directory, one file per entry, which
+ * may be shared by a few JVMs on the same host.
+ *
+ * <p>The directory is set by {@code jcabi.cacheable.store-dir} system
+ * property, {@code jcabi-cacheable} in the temporary directory by default.
+ * Since files are deserialized when they are read, nobody else must be
+ * able to write there: the directory is created accessible only by its
+ * owner, and a directory which is owned by another user, or is writable by
+ * its group or by others, is not used at all (on file systems with POSIX
+ * permissions).
+ * A file is named after the SHA-256 hash of the serialized key and
+ * contains both the key and the entry. It is written to a temporary file
+ * first, which then replaces the original one atomically, so that other
+ * JVMs never read it half-written. Expired files are deleted when they
+ * are read.
+ *
+ * <p>To use it, set {@code jcabi.cacheable.store} system property to
+ * {@code com.jcabi.aspects.aj.FileStore}.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+public final class FileStore implements CacheStore {
+
+    /**
+     * Name of the system property with the directory.
+     */
+    private static final String DIR = "jcabi.cacheable.store-dir";
+
+    /**
+     * The directory.
+     */
+    private final transient Path dir;
+
+    /**
+     * Public ctor, with the directory from the system property.
+     */
+    public FileStore() {
+        this(
+            Paths.get(
+                System.getProperty(
+                    FileStore.DIR,
+                    Paths.get(
+                        System.getProperty("java.io.tmpdir"),
+                        "jcabi-cacheable"
+                    ).toString()
+                )
+            )
+        );
+    }
+
+    /**
+     * Public ctor.
+     * @param path The directory
+     */
+    public FileStore(final Path path) {
+        this.dir = path;
+    }
+
+    @Override
+    public CompletableFuture<Map<List<Object>, CacheStore.Entry>> load(
+        final Collection<List<Object>> keys) {
+        final Map<List<Object>, CacheStore.Entry> found =
+            new HashMap<>(keys.size());
+        final long now = System.currentTimeMillis();
+        final Collection<List<Object>> wanted;
+        if (this.trusted()) {
+            wanted = keys;
+        } else {
+            wanted = Collections.emptyList();
+        }
+        for (final List<Object> key : wanted) {
+            try {
+                final Path file = this.file(key);
+                if (Files.exists(file)) {
+                    final Object[] pair = (Object[]) FileStore.decode(
+                        Files.readAllBytes(file)
+                    );
+                    final CacheStore.Entry entry = (CacheStore.Entry) pair[1];
+                    if (entry.deadline() <= now) {
+                        Files.deleteIfExists(file);
+                    } else if (key.equals(pair[0])) {
+                        found.put(key, entry);
+                    }
+                }
+            } catch (final IOException ex) {
+                LogHelper.log(
+                    Loggable.DEBUG,
+                    FileStore.class,
+                    "Can't load %s from %s: %s",
+                    key, this.dir, ex.getMessage()
+                );
+            }
+        }
+        return CompletableFuture.completedFuture(found);
+    }
+
+    @Override
+    public CompletableFuture<Void> save(
+        final Map<List<Object>, CacheStore.Entry> entries) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        try {
+            this.secure();
+            for (final Map.Entry<List<Object>, CacheStore.Entry> entry
+                : entries.entrySet()) {
+                final byte[] bytes;
+                try {
+                    bytes = FileStore.encode(
+                        new Object[] {entry.getKey(), entry.getValue()}
+                    );
+                } catch (final IOException ex) {
+                    LogHelper.log(
+                        Loggable.DEBUG,
+                        FileStore.class,
+                        "%s can't be saved to %s: %s",
+                        entry.getKey(), this.dir, ex.getMessage()
+                    );
+                    continue;
+                }
+                final Path file = this.file(entry.getKey());
+                final Path temp = Files.createTempFile(
+                    this.dir, file.getFileName().toString(), ".tmp"
+                );
+                Files.write(temp, bytes);
+                Files.move(
+                    temp, file,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE
+                );
+            }
+            done.complete(null);
+        } catch (final IOException ex) {
+            done.completeExceptionally(ex);
+        }
+        return done;
+    }
+
+    @Override
+    public CompletableFuture<Void> remove(final Collection<List<Object>> keys) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        try {
+            for (final List<Object> key : keys) {
+                Files.deleteIfExists(this.file(key));
+            }
+            done.complete(null);
+        } catch (final IOException ex) {
+            done.completeExceptionally(ex);
+        }
+        return done;
+    }
+
+    /**
+     * Is the directory safe to read from?
+     * @return TRUE if it is
+     */
+    private boolean trusted() {
+        boolean trusted = true;
+        try {
+            this.secure();
+        } catch (final IOException ex) {
+            LogHelper.log(
+                Loggable.WARN,
+                FileStore.class,
+                "Can't load from %s: %s",
+                this.dir, ex.getMessage()
+            );
+            trusted = false;
+        }
+        return trusted;
+    }
+
+    /**
+     * Create the directory, accessible only by its owner, if it's absent,
+     * and make sure nobody else can write to it.
+     * @throws IOException If it can't be created or can't be trusted
+     */
+    private void secure() throws IOException {
+        final boolean posix = this.dir.getFileSystem()
+            .supportedFileAttributeViews().contains("posix");
+        if (Files.notExists(this.dir)) {
+            if (posix) {
+                Files.createDirectories(
+                    this.dir,
+                    PosixFilePermissions.asFileAttribute(
+                        PosixFilePermissions.fromString("rwx------")
+                    )
+                );
+            } else {
+                Files.createDirectories(this.dir);
+            }
+        }
+        FileStore.owned(this.dir);
+    }
+
+    /**
+     * Make sure nobody but the user of the JVM can write to the file or
+     * directory, on file systems with POSIX permissions.
+     * @param path The file or directory
+     * @throws IOException If it can't be trusted
+     */
+    static void owned(final Path path) throws IOException {
+        if (path.getFileSystem().supportedFileAttributeViews()
+            .contains("posix")) {
+            final Set<PosixFilePermission> perms =
+                Files.getPosixFilePermissions(path);
+            if (perms.contains(PosixFilePermission.GROUP_WRITE)
+                || perms.contains(PosixFilePermission.OTHERS_WRITE)
+                || !Files.getOwner(path).getName().equals(
+                    System.getProperty("user.name")
+                )) {
+                throw new IOException(
+                    String.format(
+                        "%s is writable by others or not owned by %s",
+                        path, System.getProperty("user.name")
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * File of the key.
+     * @param key The key
+     * @return Path of the file
+     * @throws IOException If the key is not serializable
+     */
+    private Path file(final List<Object> key) throws IOException {
+        final byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(
+                FileStore.encode(key)
+            );
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final StringBuilder name = new StringBuilder(hash.length * 2 + 4);
+        for (final byte part : hash) {
+            name.append(String.format("%02x", part));
+        }
+        return this.dir.resolve(name.append(".bin").toString());
+    }
+
+    /**
+     * Serialize an object.
+     * @param object The object
+     * @return Bytes
+     * @throws IOException If it is not serializable
+     */
+    private static byte[] encode(final Object object) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserialize an object.
+     * @param bytes Bytes
+     * @return The object
+     * @throws IOException If it can't be deserialized
+     */
+    private static Object decode(final byte[] bytes) throws IOException {
+        try (ObjectInputStream input = new ObjectInputStream(
+            new ByteArrayInputStream(bytes)
+        )) {
+            return input.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
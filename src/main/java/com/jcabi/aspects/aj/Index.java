@@ -0,0 +1,120 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * Items by their groups, used in {@link MethodCacher} to find keys of
+ * a target or a tag without scanning the entire cache.
+ *
+ * <p>An item is added to its group after it becomes visible in the cache,
+ * and is removed from it only if it's not visible there any more, both
+ * atomically for the group. Thus, if an equal item is put back into the
+ * cache while the previous one is being removed, either the removal sees
+ * it and keeps the item, or the addition happens after the removal.
+ * An empty group is removed.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @param <G> Type of groups
+ * @param <T> Type of items
+ * @since 1.0
+ */
+final class Index<G, T> {
+
+    /**
+     * Items by groups.
+     */
+    private final transient ConcurrentMap<G, Set<T>> groups;
+
+    /**
+     * Ctor.
+     */
+    Index() {
+        this.groups = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Add an item to the group.
+     * @param group The group
+     * @param item The item
+     */
+    public void add(final G group, final T item) {
+        this.groups.compute(
+            group,
+            (grp, items) -> {
+                Set<T> set = items;
+                if (set == null) {
+                    set = ConcurrentHashMap.newKeySet();
+                }
+                set.add(item);
+                return set;
+            }
+        );
+    }
+
+    /**
+     * Remove an item from the group, unless it's still alive.
+     * @param group The group
+     * @param item The item
+     * @param alive Is it still alive?
+     */
+    public void remove(final G group, final T item,
+        final Predicate<T> alive) {
+        this.groups.computeIfPresent(
+            group,
+            (grp, items) -> {
+                if (!alive.test(item)) {
+                    items.remove(item);
+                }
+                final Set<T> left;
+                if (items.isEmpty()) {
+                    left = null;
+                } else {
+                    left = items;
+                }
+                return left;
+            }
+        );
+    }
+
+    /**
+     * Items of the group.
+     * @param group The group
+     * @return Live view of the items, may be empty
+     */
+    public Set<T> get(final G group) {
+        return this.groups.getOrDefault(group, Collections.emptySet());
+    }
+
+    /**
+     * Remove the entire group.
+     * @param group The group
+     * @return Its items, may be empty
+     */
+    public Set<T> clear(final G group) {
+        final Set<T> items = this.groups.remove(group);
+        final Set<T> result;
+        if (items == null) {
+            result = Collections.emptySet();
+        } else {
+            result = items;
+        }
+        return result;
+    }
+
+    /**
+     * Amount of groups.
+     * @return Amount
+     */
+    public int size() {
+        return this.groups.size();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Loggable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Invalidations of {@link MethodCacher}, sent to other JVMs through
+ * a {@link CacheBus}.
+ *
+ * <p>Events are collected and published in batches, by {@link #flush()},
+ * which {@link MethodCacher} calls periodically; equal events of one
+ * batch are sent once. An event is taken out of the batch before it's
+ * published, so that an equal event which comes meanwhile is published
+ * again. If the bus fails, the failure is logged and the batch is
+ * published again next time.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+final class Invalidations {
+
+    /**
+     * Prefix of events with tags.
+     */
+    static final String TAG = "tag:";
+
+    /**
+     * Prefix of events with classes.
+     */
+    static final String TYPE = "class:";
+
+    /**
+     * Name of the system property with the class of the bus.
+     */
+    private static final String BUS = "jcabi.cacheable.bus";
+
+    /**
+     * The bus.
+     */
+    private final transient CacheBus bus;
+
+    /**
+     * Events waiting to be published.
+     */
+    private final transient Set<String> pending;
+
+    /**
+     * Ctor.
+     * @param origin The bus
+     */
+    Invalidations(final CacheBus origin) {
+        this.bus = origin;
+        this.pending = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public String toString() {
+        return this.bus.getClass().getName();
+    }
+
+    /**
+     * Make invalidations of the bus configured, if any.
+     * @return Invalidations or NULL if no bus is configured
+     * @throws ReflectiveOperationException If the bus can't be made
+     */
+    public static Invalidations configured()
+        throws ReflectiveOperationException {
+        final String name = System.getProperty(Invalidations.BUS, "");
+        final CacheBus bus;
+        if (name.isEmpty()) {
+            final Iterator<CacheBus> found =
+                ServiceLoader.load(CacheBus.class).iterator();
+            if (found.hasNext()) {
+                bus = found.next();
+            } else {
+                bus = null;
+            }
+        } else {
+            bus = Class.forName(name).asSubclass(CacheBus.class)
+                .getConstructor().newInstance();
+        }
+        Invalidations invalidations = null;
+        if (bus != null) {
+            invalidations = new Invalidations(bus);
+        }
+        return invalidations;
+    }
+
+    /**
+     * Start receiving events of other JVMs.
+     * @param listener Where to deliver them
+     */
+    public void subscribe(final Consumer<Collection<String>> listener) {
+        this.bus.subscribe(listener);
+    }
+
+    /**
+     * Invalidate values with the tag, in the next batch.
+     * @param name The tag
+     */
+    public void tag(final String name) {
+        this.pending.add(Invalidations.TAG.concat(name));
+    }
+
+    /**
+     * Invalidate values of methods of the class and of the methods it
+     * inherits, in the next batch.
+     * @param type The class
+     */
+    public void type(final Class<?> type) {
+        this.pending.add(Invalidations.TYPE.concat(type.getName()));
+    }
+
+    /**
+     * Publish all events waiting in the batch.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void flush() {
+        if (!this.pending.isEmpty()) {
+            final Collection<String> batch = new ArrayList<>(this.pending);
+            this.pending.removeAll(batch);
+            try {
+                this.bus.publish(batch);
+            // @checkstyle IllegalCatch (1 line)
+            } catch (final RuntimeException ex) {
+                this.pending.addAll(batch);
+                LogHelper.log(
+                    Loggable.WARN,
+                    Invalidations.class,
+                    "Can't publish %d @Cacheable invalidation(s) to %s: %s",
+                    batch.size(),
+                    this,
+                    ex.getMessage()
+                );
+            }
+        }
+    }
+
+    /**
+     * Publish the last batch and close the bus.
+     */
+    public void close() {
+        this.flush();
+        this.bus.close();
+    }
+}
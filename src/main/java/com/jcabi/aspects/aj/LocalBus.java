@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Bus of invalidations inside one JVM, between aspects loaded by
+ * different class loaders, which share this class.
+ *
+ * <p>A batch is delivered to all other buses synchronously, in the
+ * thread that publishes it. A bus stays registered in the JVM until
+ * it is closed.
+ *
+ * <p>To use it, set {@code jcabi.cacheable.bus} system property to
+ * {@code com.jcabi.aspects.aj.LocalBus}.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+public final class LocalBus implements CacheBus {
+
+    /**
+     * All buses of the JVM.
+     */
+    private static final Collection<LocalBus> ALL =
+        new CopyOnWriteArrayList<>();
+
+    /**
+     * Buses that receive batches of this one, including itself.
+     */
+    private final transient Collection<LocalBus> peers;
+
+    /**
+     * Where to deliver batches, NULL if not subscribed yet.
+     */
+    private transient volatile Consumer<Collection<String>> listener;
+
+    /**
+     * Public ctor.
+     */
+    public LocalBus() {
+        this(LocalBus.ALL);
+    }
+
+    /**
+     * Ctor.
+     * @param all Buses that receive batches of each other
+     */
+    LocalBus(final Collection<LocalBus> all) {
+        this.peers = all;
+    }
+
+    @Override
+    public void publish(final Collection<String> events) {
+        final Collection<String> batch = Collections.unmodifiableCollection(
+            events
+        );
+        for (final LocalBus peer : this.peers) {
+            final Consumer<Collection<String>> target = peer.listener;
+            if (peer != this && target != null) {
+                target.accept(batch);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(final Consumer<Collection<String>> consumer) {
+        this.listener = consumer;
+        this.peers.add(this);
+    }
+
+    @Override
+    public void close() {
+        this.peers.remove(this);
+        this.listener = null;
+    }
+
+}
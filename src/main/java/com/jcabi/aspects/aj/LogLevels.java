@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Loggable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Enabled levels of loggers, used by {@link MethodLogger}.
+ *
+ * <p>Levels of a logger are asked from the logging facility once and then
+ * kept, until {@link #refresh()} is called, which happens periodically,
+ * in order to notice changes of logging configuration. The refresh is
+ * cheap: it only moves the generation, while levels are asked again
+ * lazily, by the next call that needs them.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+final class LogLevels {
+
+    /**
+     * Levels, which are checked, in the order of their bits.
+     */
+    private static final int[] LEVELS = {
+        Loggable.TRACE,
+        Loggable.DEBUG,
+        Loggable.INFO,
+        Loggable.WARN,
+        Loggable.ERROR,
+    };
+
+    /**
+     * Masks of enabled levels, by loggers.
+     */
+    private final transient ConcurrentMap<Object, LogLevels.Mask> masks;
+
+    /**
+     * Current generation.
+     */
+    private final transient AtomicLong generation;
+
+    /**
+     * Ctor.
+     */
+    LogLevels() {
+        this.masks = new ConcurrentHashMap<>(0);
+        this.generation = new AtomicLong();
+    }
+
+    /**
+     * Is this level enabled for this logger?
+     * @param level Level of logging
+     * @param logger The logger
+     * @return TRUE if enabled
+     */
+    public boolean enabled(final int level, final Object logger) {
+        final long current = this.generation.get();
+        LogLevels.Mask mask = this.masks.get(logger);
+        if (mask == null || mask.generation != current) {
+            mask = new LogLevels.Mask(current, logger);
+            this.masks.put(logger, mask);
+        }
+        return mask.enabled(level);
+    }
+
+    /**
+     * Forget all levels, they will be asked again when needed.
+     */
+    public void refresh() {
+        this.generation.incrementAndGet();
+    }
+
+    /**
+     * Enabled levels of one logger.
+     *
+     * @since 1.0
+     */
+    private static final class Mask {
+        /**
+         * Generation it belongs to.
+         */
+        private final transient long generation;
+
+        /**
+         * Bits of enabled levels.
+         */
+        private final transient int bits;
+
+        /**
+         * Ctor.
+         * @param gen Generation
+         * @param logger The logger
+         */
+        Mask(final long gen, final Object logger) {
+            this.generation = gen;
+            int enabled = 0;
+            for (final int level : LogLevels.LEVELS) {
+                if (LogHelper.enabled(level, logger)) {
+                    enabled |= 1 << level;
+                }
+            }
+            this.bits = enabled;
+        }
+
+        /**
+         * Is this level enabled?
+         * @param level Level of logging
+         * @return TRUE if enabled
+         */
+        public boolean enabled(final int level) {
+            return level < 0 || level >= Integer.SIZE
+                || (this.bits & 1 << level) != 0;
+        }
+    }
+
+}
@@ -0,0 +1,393 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.aspectj.lang.ProceedingJoinPoint;
+
+/**
+ * Ring buffer of log lines of {@link MethodLogger}, for
+ * {@code @Loggable(async = true)}.
+ *
+ * <p>Callers put the facts of a call into a slot of the buffer, without
+ * rendering anything; a background thread takes them out, in the same
+ * order, renders lines and sends them to the loggers. Slots are
+ * allocated once and reused. The buffer is lock-free: a caller claims
+ * a slot by moving the head with CAS and publishes it by moving the
+ * sequence of the slot, after it has filled it.
+ *
+ * <p>When the buffer is empty, the background thread parks until a
+ * caller publishes a line and wakes it up. When the buffer is full, the
+ * line is dropped, or the caller waits until the background thread frees
+ * a slot, if it's blocking. The thread that renders lines never waits for
+ * itself: if rendering makes a line of another asynchronous call and the
+ * buffer is full, that line is logged right away. Dropped lines are
+ * counted and reported by the background thread.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class LogRing {
+
+    /**
+     * How long a blocked caller waits before it tries again.
+     */
+    private static final long PAUSE = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    /**
+     * Slots.
+     */
+    private final transient LogRing.Slot[] slots;
+
+    /**
+     * Sequences of slots: a slot with the sequence equal to a position
+     * is free for it, one more than a position is published.
+     */
+    private final transient AtomicLongArray sequences;
+
+    /**
+     * Mask of positions.
+     */
+    private final transient int mask;
+
+    /**
+     * Next position to claim.
+     */
+    private final transient AtomicLong head;
+
+    /**
+     * Next position to take, used only under the lock of the ring.
+     */
+    private transient long tail;
+
+    /**
+     * Shall callers wait when the buffer is full?
+     */
+    private final transient boolean blocking;
+
+    /**
+     * Renderer of lines.
+     */
+    private final transient LogRing.Renderer renderer;
+
+    /**
+     * Lines dropped since the last report.
+     */
+    private final transient LongAdder dropped;
+
+    /**
+     * Is the background thread started?
+     */
+    private final transient AtomicBoolean started;
+
+    /**
+     * The background thread, NULL if not started yet.
+     */
+    private transient volatile Thread consumer;
+
+    /**
+     * Is the background thread going to park, since the buffer is empty?
+     */
+    private transient volatile boolean idle;
+
+    /**
+     * Ctor.
+     * @param size Minimum amount of slots, rounded up to a power of two
+     * @param block Shall callers wait when the buffer is full?
+     * @param rnd Renderer of lines
+     */
+    LogRing(final int size, final boolean block, final LogRing.Renderer rnd) {
+        final int capacity = Integer.highestOneBit(
+            Math.max(size, 2) * 2 - 1
+        );
+        this.slots = new LogRing.Slot[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int idx = 0; idx < capacity; ++idx) {
+            this.slots[idx] = new LogRing.Slot();
+            this.sequences.set(idx, idx);
+        }
+        this.mask = capacity - 1;
+        this.head = new AtomicLong();
+        this.blocking = block;
+        this.renderer = rnd;
+        this.dropped = new LongAdder();
+        this.started = new AtomicBoolean();
+    }
+
+    /**
+     * Put a line into the buffer.
+     * @param kind What happened
+     * @param level Level of logging
+     * @param logger The logger
+     * @param point Join point
+     * @param annotation The annotation
+     * @param value Result or exception, NULL if none
+     * @param nano Duration of the call, in nanoseconds
+     * @return TRUE if it's accepted, FALSE if dropped
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    public boolean publish(final LogRing.Kind kind, final int level,
+        final Object logger, final ProceedingJoinPoint point,
+        final Loggable annotation, final Object value, final long nano) {
+        if (this.started.compareAndSet(false, true)) {
+            this.start();
+        }
+        long pos = this.claim();
+        while (pos < 0L && this.blocking && !Thread.holdsLock(this)) {
+            LockSupport.parkNanos(LogRing.PAUSE);
+            pos = this.claim();
+        }
+        final boolean accepted = pos >= 0L || this.blocking;
+        if (pos >= 0L) {
+            final int idx = (int) pos & this.mask;
+            final LogRing.Slot slot = this.slots[idx];
+            slot.kind = kind;
+            slot.level = level;
+            slot.logger = logger;
+            slot.point = point;
+            slot.annotation = annotation;
+            slot.value = value;
+            slot.nano = nano;
+            this.sequences.set(idx, pos + 1L);
+            this.wake();
+        } else if (this.blocking) {
+            this.log(kind, level, logger, point, annotation, value, nano);
+        } else {
+            this.dropped.increment();
+        }
+        return accepted;
+    }
+
+    /**
+     * Render and log all lines in the buffer.
+     * @return How many lines were taken
+     */
+    public synchronized int drain() {
+        int taken = 0;
+        while (true) {
+            final int idx = (int) this.tail & this.mask;
+            if (this.sequences.get(idx) != this.tail + 1L) {
+                break;
+            }
+            final LogRing.Slot slot = this.slots[idx];
+            this.log(
+                slot.kind, slot.level, slot.logger, slot.point,
+                slot.annotation, slot.value, slot.nano
+            );
+            slot.logger = null;
+            slot.point = null;
+            slot.annotation = null;
+            slot.value = null;
+            this.sequences.set(idx, this.tail + (long) this.slots.length);
+            ++this.tail;
+            ++taken;
+        }
+        final long lost = this.dropped.sumThenReset();
+        if (lost > 0L) {
+            Logger.warn(
+                this, "%d @Loggable line(s) dropped, the buffer is full", lost
+            );
+        }
+        return taken;
+    }
+
+    /**
+     * Render a line and log it.
+     * @param kind What happened
+     * @param level Level of logging
+     * @param logger The logger
+     * @param point Join point
+     * @param annotation The annotation
+     * @param value Result or exception, NULL if none
+     * @param nano Duration of the call, in nanoseconds
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void log(final LogRing.Kind kind, final int level,
+        final Object logger, final ProceedingJoinPoint point,
+        final Loggable annotation, final Object value, final long nano) {
+        try {
+            LogHelper.log(
+                level,
+                logger,
+                this.renderer.render(kind, point, annotation, value, nano)
+            );
+        // @checkstyle IllegalCatch (1 line)
+        } catch (final RuntimeException ex) {
+            Logger.warn(
+                this, "Can't render @Loggable line: %[exception]s", ex
+            );
+        }
+    }
+
+    /**
+     * Wake up the background thread, if it's parked or going to park.
+     *
+     * <p>The caller publishes its slot before it checks the flag, while
+     * the background thread raises the flag before it checks the buffer
+     * for the last time, so one of them always sees the other.
+     */
+    private void wake() {
+        final Thread thread = this.consumer;
+        if (this.idle && thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Is there a line ready to be taken?
+     * @return TRUE if there is
+     */
+    private synchronized boolean ready() {
+        return this.sequences.get((int) this.tail & this.mask)
+            == this.tail + 1L;
+    }
+
+    /**
+     * Claim a position for a new line.
+     * @return The position or -1 if the buffer is full
+     */
+    private long claim() {
+        long claimed = -1L;
+        while (true) {
+            final long pos = this.head.get();
+            final long diff = this.sequences.get((int) pos & this.mask) - pos;
+            if (diff == 0L) {
+                if (this.head.compareAndSet(pos, pos + 1L)) {
+                    claimed = pos;
+                    break;
+                }
+            } else if (diff < 0L) {
+                break;
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Start the background thread, which drains the buffer, and the hook,
+     * which drains it on shutdown.
+     */
+    private void start() {
+        final Thread thread = new NamedThreads(
+            "loggable-async",
+            "asynchronous logging of @Loggable methods"
+        ).newThread(
+            () -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    if (this.drain() == 0) {
+                        this.idle = true;
+                        if (!this.ready()) {
+                            LockSupport.park(this);
+                        }
+                        this.idle = false;
+                    }
+                }
+            }
+        );
+        this.consumer = thread;
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(
+            new NamedThreads(
+                "loggable-flush",
+                "logging of @Loggable lines left on shutdown"
+            ).newThread(this::drain)
+        );
+    }
+
+    /**
+     * What happened.
+     *
+     * @since 1.0
+     */
+    enum Kind {
+        /**
+         * The method is entered.
+         */
+        ENTERED,
+
+        /**
+         * The method returned a result.
+         */
+        RETURNED,
+
+        /**
+         * The method threw an exception.
+         */
+        THROWN
+    }
+
+    /**
+     * Renderer of lines.
+     *
+     * @since 1.0
+     */
+    interface Renderer {
+        /**
+         * Render a line.
+         * @param kind What happened
+         * @param point Join point
+         * @param annotation The annotation
+         * @param value Result or exception, NULL if none
+         * @param nano Duration of the call, in nanoseconds
+         * @return The line
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        String render(LogRing.Kind kind, ProceedingJoinPoint point,
+            Loggable annotation, Object value, long nano);
+    }
+
+    /**
+     * Slot of the buffer, published by its sequence.
+     *
+     * @since 1.0
+     */
+    private static final class Slot {
+        /**
+         * What happened.
+         */
+        private transient LogRing.Kind kind;
+
+        /**
+         * Level of logging.
+         */
+        private transient int level;
+
+        /**
+         * The logger.
+         */
+        private transient Object logger;
+
+        /**
+         * Join point.
+         */
+        private transient ProceedingJoinPoint point;
+
+        /**
+         * The annotation.
+         */
+        private transient Loggable annotation;
+
+        /**
+         * Result or exception.
+         */
+        private transient Object value;
+
+        /**
+         * Duration of the call, in nanoseconds.
+         */
+        private transient long nano;
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * Metadata of a join point, shared by all aspects.
+ *
+ * <p>The method of a join point is resolved through reflection once, when
+ * the join point is met for the first time, and so are its annotations
+ * and everything else aspects make out of them: loggers, matchers of
+ * exceptions, formats of log lines, etc. Metadata is kept in a
+ * {@link ClassValue} of the class that declares the method, so it goes
+ * away together with the class, when its class loader is unloaded.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+final class Metadata {
+
+    /**
+     * Metadata of join points, by declaring classes.
+     */
+    private static final ClassValue<ConcurrentMap<JoinPoint.StaticPart, Metadata>>
+        ALL = new ClassValue<ConcurrentMap<JoinPoint.StaticPart, Metadata>>() {
+            @Override
+            protected ConcurrentMap<JoinPoint.StaticPart, Metadata> computeValue(
+                final Class<?> type) {
+                return new ConcurrentHashMap<>(0);
+            }
+        };
+
+    /**
+     * Marker of a value which is NULL.
+     */
+    private static final Object ABSENT = new Object();
+
+    /**
+     * The method.
+     */
+    private final transient Method method;
+
+    /**
+     * Values made out of the method, by their keys.
+     */
+    private final transient ConcurrentMap<Object, Object> values;
+
+    /**
+     * Ctor.
+     * @param mtd The method
+     */
+    private Metadata(final Method mtd) {
+        this.method = mtd;
+        this.values = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Metadata of the join point.
+     * @param point Join point
+     * @return The metadata
+     */
+    public static Metadata of(final JoinPoint point) {
+        return Metadata.of(point.getStaticPart());
+    }
+
+    /**
+     * Metadata of the static part of a join point.
+     * @param part Static part of the join point
+     * @return The metadata
+     */
+    public static Metadata of(final JoinPoint.StaticPart part) {
+        final ConcurrentMap<JoinPoint.StaticPart, Metadata> parts =
+            Metadata.ALL.get(part.getSignature().getDeclaringType());
+        Metadata meta = parts.get(part);
+        if (meta == null) {
+            meta = parts.computeIfAbsent(
+                part,
+                key -> new Metadata(
+                    ((MethodSignature) key.getSignature()).getMethod()
+                )
+            );
+        }
+        return meta;
+    }
+
+    /**
+     * The method.
+     * @return The method
+     */
+    public Method method() {
+        return this.method;
+    }
+
+    /**
+     * Annotation of the method.
+     * @param type Type of the annotation
+     * @param <T> Type of the annotation
+     * @return The annotation or NULL if the method is not annotated
+     */
+    public <T extends Annotation> T annotation(final Class<T> type) {
+        return this.value(type, mtd -> mtd.getAnnotation(type));
+    }
+
+    /**
+     * Value made out of the method, once.
+     * @param key The key, which is unique for the value, for example the
+     *  class of the aspect that needs it
+     * @param make Function which makes the value, it may return NULL
+     * @param <T> Type of the value
+     * @return The value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T value(final Object key, final Function<Method, T> make) {
+        Object value = this.values.get(key);
+        if (value == null) {
+            value = this.values.computeIfAbsent(
+                key,
+                any -> {
+                    final Object made = make.apply(this.method);
+                    final Object stored;
+                    if (made == null) {
+                        stored = Metadata.ABSENT;
+                    } else {
+                        stored = made;
+                    }
+                    return stored;
+                }
+            );
+        }
+        final T found;
+        if (Metadata.ABSENT.equals(value)) {
+            found = null;
+        } else {
+            found = (T) value;
+        }
+        return found;
+    }
+
+}
@@ -10,7 +10,6 @@ import java.util.concurrent.Future;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.MethodSignature;
 
 /**
  * Execute method asynchronously.
@@ -51,8 +50,7 @@ public final class MethodAsyncRunner {
     @Around("execution(@com.jcabi.aspects.Async * * (..))")
     @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public Object wrap(final ProceedingJoinPoint point) {
-        final Class<?> returned = ((MethodSignature) point.getSignature()).getMethod()
-            .getReturnType();
+        final Class<?> returned = Metadata.of(point).method().getReturnType();
         if (!Future.class.isAssignableFrom(returned)
             && !returned.equals(Void.TYPE)) {
             // @checkstyle LineLength (3 lines)
@@ -8,25 +8,46 @@ import com.jcabi.aspects.Cacheable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.log.Logger;
 import com.jcabi.log.VerboseRunnable;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.After;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
-import org.aspectj.lang.reflect.MethodSignature;
 
 /**
  * Cache method results.
@@ -46,15 +67,135 @@ import org.aspectj.lang.reflect.MethodSignature;
 public final class MethodCacher {
 
     /**
-     * Calling tunnels.
+     * Name of the system property with the maximum total amount of
+     * entries in cache, for all methods together (no limit by default).
+     */
+    private static final String MAX_SIZE = "jcabi.cacheable.max-size";
+
+    /**
+     * Name of the system property with the maximum total weight of
+     * entries in cache, in bytes, for all methods together (no limit by
+     * default).
+     */
+    private static final String MAX_WEIGHT = "jcabi.cacheable.max-weight";
+
+    /**
+     * How often expired entries are removed, in milliseconds.
+     */
+    private static final long TICK = 100L;
+
+    /**
+     * Resolution of the clock, in milliseconds.
+     */
+    private static final long RESOLUTION = 10L;
+
+    /**
+     * Name of the system property with the path of the snapshot file,
+     * see {@link Cacheable#snapshot()}.
+     */
+    private static final String SNAPSHOT = "jcabi.cacheable.snapshot";
+
+    /**
+     * Name of the system property with comma-separated classes and
+     * packages, which may be deserialized from the snapshot, besides
+     * the classes of the JDK allowed by default.
+     */
+    private static final String ALLOWED = "jcabi.cacheable.snapshot-classes";
+
+    /**
+     * Name of the system property with the maximum amount of threads
+     * for asynchronous updates (the number of processors by default,
+     * at least one).
+     */
+    private static final String THREADS = "jcabi.cacheable.update-threads";
+
+    /**
+     * Name of the system property with the maximum amount of asynchronous
+     * updates waiting in the queue (1024 by default, at least one).
+     */
+    private static final String BACKLOG = "jcabi.cacheable.update-queue";
+
+    /**
+     * Probe keys, reused by each thread to look up the map.
+     */
+    private static final ThreadLocal<MethodCacher.Probe> PROBES =
+        ThreadLocal.withInitial(MethodCacher.Probe::new);
+
+    /**
+     * Keys in the map, by their targets.
+     */
+    private final transient Index<MethodCacher.Target, MethodCacher.Key> targets;
+
+    /**
+     * Keys in the map, by their tags.
+     */
+    private final transient Index<String, MethodCacher.Key> tags;
+
+    /**
+     * Targets already collected by GC.
+     */
+    private final transient ReferenceQueue<Object> collected;
+
+    /**
+     * Metadata of cached methods, by their join points.
      * @checkstyle LineLength (2 lines)
      */
-    private final transient ConcurrentMap<MethodCacher.Key, MethodCacher.Tunnel> tunnels;
+    private final transient ConcurrentMap<JoinPoint.StaticPart, MethodCacher.Site> sites;
+
+    /**
+     * Pool of asynchronous updates.
+     */
+    private final transient Refresher refresher;
+
+    /**
+     * Regions of cached methods, each one with its own map of tunnels.
+     */
+    private final transient ConcurrentMap<Method, MethodCacher.Region> regions;
+
+    /**
+     * Statistics of cached methods.
+     */
+    private final transient ConcurrentMap<Method, CacheStats> stats;
+
+    /**
+     * Total amount of entries in cache.
+     */
+    private final transient AtomicLong total;
+
+    /**
+     * Maximum total amount of entries in cache, zero if not limited.
+     */
+    private final transient long capacity;
+
+    /**
+     * Total weight of entries in cache, in bytes.
+     */
+    private final transient AtomicLong weight;
+
+    /**
+     * Maximum total weight of entries in cache, zero if not limited.
+     */
+    private final transient long budget;
+
+    /**
+     * Snapshot of cached values, NULL if not configured.
+     */
+    private final transient Snapshot snapshot;
+
+    /**
+     * Shared store of cached values, NULL if not configured.
+     */
+    private final transient SharedTier shared;
+
+    /**
+     * Clock of expiration.
+     */
+    private final transient Clock clock;
 
     /**
-     * Save the keys which need update.
+     * Invalidations of other JVMs, NULL if no bus is configured.
      */
-    private final transient BlockingQueue<MethodCacher.Key> updatekeys;
+    private final transient Invalidations bus;
 
     /**
      * Service that cleans cache.
@@ -62,19 +203,38 @@ public final class MethodCacher {
     @SuppressWarnings("PMD.SingularField")
     private final transient ScheduledExecutorService cleaner;
 
+
     /**
-     * Service that update cache.
+     * Public ctor.
      */
-    @SuppressWarnings("PMD.SingularField")
-    private final transient ScheduledExecutorService updater;
+    public MethodCacher() {
+        this(new CoarseClock(MethodCacher.RESOLUTION));
+    }
 
     /**
-     * Public ctor.
+     * Ctor.
+     * @param time Clock of expiration
      */
     @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
-    public MethodCacher() {
-        this.tunnels = new ConcurrentHashMap<>(0);
-        this.updatekeys = new LinkedBlockingQueue<>();
+    MethodCacher(final Clock time) {
+        this.clock = time;
+        this.sites = new ConcurrentHashMap<>(0);
+        this.targets = new Index<>();
+        this.tags = new Index<>();
+        this.collected = new ReferenceQueue<>();
+        this.refresher = new Refresher(
+            MethodCacher.positive(
+                MethodCacher.THREADS,
+                Runtime.getRuntime().availableProcessors()
+            ),
+            MethodCacher.positive(MethodCacher.BACKLOG, 1024)
+        );
+        this.regions = new ConcurrentHashMap<>(0);
+        this.stats = new ConcurrentHashMap<>(0);
+        this.total = new AtomicLong();
+        this.capacity = Long.getLong(MethodCacher.MAX_SIZE, 0L);
+        this.weight = new AtomicLong();
+        this.budget = Long.getLong(MethodCacher.MAX_WEIGHT, 0L);
         this.cleaner = Executors.newSingleThreadScheduledExecutor(
             new NamedThreads(
                 "cacheable-clean",
@@ -85,20 +245,61 @@ public final class MethodCacher {
             new VerboseRunnable(
                 this::clean
             ),
-            1L, 1L, TimeUnit.SECONDS
-        );
-        this.updater = Executors.newSingleThreadScheduledExecutor(
-            new NamedThreads(
-                "cacheable-update",
-                "async update of expired @Cacheable values"
-            )
-        );
-        this.updater.schedule(
-            new VerboseRunnable(
-                this::update
-            ),
-            0L, TimeUnit.SECONDS
+            MethodCacher.TICK, MethodCacher.TICK, TimeUnit.MILLISECONDS
         );
+        this.shared = MethodCacher.tier();
+        if (this.shared != null) {
+            this.cleaner.scheduleWithFixedDelay(
+                new VerboseRunnable(
+                    this.shared::flush
+                ),
+                MethodCacher.TICK, MethodCacher.TICK, TimeUnit.MILLISECONDS
+            );
+            Runtime.getRuntime().addShutdownHook(
+                new NamedThreads(
+                    "cacheable-store",
+                    "saving of @Cacheable values to the store on shutdown"
+                ).newThread(this.shared::flush)
+            );
+        }
+        this.bus = MethodCacher.bus();
+        if (this.bus != null) {
+            this.bus.subscribe(this::receive);
+            this.cleaner.scheduleWithFixedDelay(
+                new VerboseRunnable(
+                    this.bus::flush
+                ),
+                MethodCacher.TICK, MethodCacher.TICK, TimeUnit.MILLISECONDS
+            );
+            Runtime.getRuntime().addShutdownHook(
+                new NamedThreads(
+                    "cacheable-bus",
+                    "publishing of @Cacheable invalidations on shutdown"
+                ).newThread(this.bus::close)
+            );
+        }
+        final String path = System.getProperty(MethodCacher.SNAPSHOT, "");
+        if (path.isEmpty()) {
+            this.snapshot = null;
+        } else {
+            this.snapshot = new Snapshot(
+                Paths.get(path),
+                System.getProperty(MethodCacher.ALLOWED, "").split(",")
+            );
+            this.warm();
+            this.cleaner.scheduleWithFixedDelay(
+                new VerboseRunnable(
+                    this::persist
+                ),
+                1L, 1L, TimeUnit.MINUTES
+            );
+            Runtime.getRuntime().addShutdownHook(
+                new NamedThreads(
+                    "cacheable-snapshot",
+                    "saving of @Cacheable snapshot on shutdown"
+                ).newThread(this::persist)
+            );
+        }
     }
 
     /**
@@ -114,38 +315,90 @@ public final class MethodCacher {
      */
     @Around("execution(* *(..)) && @annotation(com.jcabi.aspects.Cacheable)")
     public Object cache(final ProceedingJoinPoint point) throws Throwable {
-        final MethodCacher.Key key = new MethodCacher.Key(point);
+        final MethodCacher.Site site = this.site(point.getStaticPart());
+        for (final MethodHandle before : site.before) {
+            if ((boolean) before.invokeExact()) {
+                this.preflush(point);
+            }
+        }
+        final Object target = site.target(point);
+        final Object[] args = site.arguments(point.getArgs());
+        MethodCacher.Probe probe = MethodCacher.PROBES.get();
+        if (probe.busy()) {
+            probe = new MethodCacher.Probe();
+        }
         MethodCacher.Tunnel tunnel;
-        final Method method = ((MethodSignature) point.getSignature())
-            .getMethod();
-        final Cacheable annot = method.getAnnotation(Cacheable.class);
-        synchronized (this.tunnels) {
-            for (final Class<?> before : annot.before()) {
-                final boolean flag = (Boolean) before.getMethod("flushBefore")
-                    .invoke(method.getClass());
-                if (flag) {
-                    this.preflush(point);
+        try {
+            tunnel = site.region.tunnels.get(
+                probe.of(site.method, target, args)
+            );
+        } finally {
+            probe.clear();
+        }
+        if (MethodCacher.isCreateTunnel(tunnel)) {
+            this.collect();
+            final MethodCacher.Key created = new MethodCacher.Key(
+                site, new MethodCacher.Target(target, this.collected), args
+            );
+            tunnel = site.region.tunnels.compute(
+                created,
+                (akey, existing) -> {
+                    final MethodCacher.Tunnel fresh;
+                    if (MethodCacher.isCreateTunnel(existing)) {
+                        fresh = new MethodCacher.Tunnel(
+                            point, akey, site.annot.asyncUpdate(), site.region
+                        );
+                        if (existing == null) {
+                            this.total.incrementAndGet();
+                        } else {
+                            this.retire(existing);
+                            site.stats.expired();
+                        }
+                        if (site.annot.snapshot() && this.snapshot != null) {
+                            final Snapshot.Entry entry = this.snapshot.restore(
+                                site.name, akey.arguments, this.clock.millis()
+                            );
+                            if (entry != null) {
+                                fresh.restore(
+                                    entry.value(), entry.deadline(), "snapshot"
+                                );
+                            }
+                        }
+                        site.region.admit(fresh, existing == null);
+                    } else {
+                        fresh = existing;
+                    }
+                    return fresh;
                 }
+            );
+            if (tunnel.key == created) {
+                this.index(created);
             }
-            tunnel = this.tunnels.get(key);
-            if (MethodCacher.isCreateTunnel(tunnel)) {
-                tunnel = new MethodCacher.Tunnel(
-                    point, key, annot.asyncUpdate()
-                );
-                this.tunnels.put(key, tunnel);
-            }
-            if (tunnel.expired() && tunnel.asyncUpdate()) {
-                this.updatekeys.offer(key);
-            }
-            for (final Class<?> after : annot.after()) {
-                final boolean flag = (Boolean) after.getMethod("flushAfter")
-                    .invoke(method.getClass());
-                if (flag) {
-                    this.postflush(point);
-                }
+            this.enforce(site.region);
+        }
+        if (tunnel.expired() && tunnel.asyncUpdate() || tunnel.ahead()) {
+            final MethodCacher.Tunnel stale = tunnel;
+            final MethodCacher.Key key = stale.key;
+            this.refresher.submit(key, () -> this.update(key, stale));
+            tunnel = site.region.tunnels.getOrDefault(key, tunnel);
+        }
+        for (final MethodHandle after : site.after) {
+            if ((boolean) after.invokeExact()) {
+                this.postflush(point);
             }
         }
-        return tunnel.through();
+        if (tunnel.executed) {
+            site.stats.hit();
+        } else {
+            site.stats.miss();
+        }
+        final Object result;
+        try {
+            result = tunnel.through();
+        } finally {
+            this.schedule(tunnel);
+        }
+        return result;
     }
 
     /**
@@ -212,32 +465,250 @@ public final class MethodCacher {
         this.flush(point, "after the call");
     }
 
+    /**
+     * Amount of asynchronous updates of expired values, waiting in
+     * the queue.
+     * @return Amount of updates
+     * @since 1.0
+     */
+    public int backlog() {
+        return this.refresher.depth();
+    }
+
+    /**
+     * Remove from cache all values of methods with the given tags, see
+     * {@link Cacheable#tags()}.
+     *
+     * <p>The aspect may be found with
+     * {@code Aspects.aspectOf(MethodCacher.class)}.
+     *
+     * @param names The tags
+     * @return How many values were removed
+     * @since 1.0
+     */
+    public int invalidate(final String... names) {
+        if (this.bus != null) {
+            for (final String tag : names) {
+                this.bus.tag(tag);
+            }
+        }
+        return this.untag(true, names);
+    }
+
+    /**
+     * Remove from cache values with tags, after the method.
+     *
+     * <p>Try NOT to change the signature of this method, in order to keep
+     * it backward compatible.
+     *
+     * @param point Joint point
+     * @since 1.0
+     * @checkstyle MethodsOrderCheck (3 lines)
+     */
+    @After(
+        // @checkstyle StringLiteralsConcatenation (2 lines)
+        "execution(* *(..))"
+        + " && @annotation(com.jcabi.aspects.Cacheable.Evict)"
+    )
+    public void evict(final JoinPoint point) {
+        this.invalidate(
+            Metadata.of(point).annotation(Cacheable.Evict.class).tags()
+        );
+    }
+
+    /**
+     * Find or make metadata of the cached method.
+     * @param part Static part of the join point
+     * @return The metadata
+     * @throws ReflectiveOperationException If flush triggers are broken
+     */
+    private MethodCacher.Site site(final JoinPoint.StaticPart part)
+        throws ReflectiveOperationException {
+        MethodCacher.Site site = this.sites.get(part);
+        if (site == null) {
+            final Method method = Metadata.of(part).method();
+            final MethodCacher.Region region = this.regions.computeIfAbsent(
+                method,
+                mtd -> new MethodCacher.Region(
+                    mtd.getAnnotation(Cacheable.class),
+                    this.capacity, this.budget, this.clock
+                )
+            );
+            site = new MethodCacher.Site(
+                method,
+                region,
+                this.stats.computeIfAbsent(
+                    method,
+                    mtd -> {
+                        final CacheStats fresh = new CacheStats(
+                            mtd, region::size, region::weight
+                        );
+                        fresh.register();
+                        return fresh;
+                    }
+                ),
+                this.shared
+            );
+            final MethodCacher.Site existing =
+                this.sites.putIfAbsent(part, site);
+            if (existing != null) {
+                site = existing;
+            }
+        }
+        return site;
+    }
+
     /**
      * Flush cache.
+     *
+     * <p>Only keys of the target are visited, through the index of
+     * targets, not the entire map.
+     *
      * @param point Joint point
      * @param when When it happens
      * @since 0.7.18
      */
     private void flush(final JoinPoint point, final String when) {
-        synchronized (this.tunnels) {
-            for (final MethodCacher.Key key : this.tunnels.keySet()) {
-                if (!key.sameTarget(point)) {
-                    continue;
+        final Method method = Metadata.of(point).method();
+        if (this.bus != null) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                this.bus.type(method.getDeclaringClass());
+            } else {
+                this.bus.type(point.getTarget().getClass());
+            }
+        }
+        final Set<MethodCacher.Key> keys = this.targets.get(
+            new MethodCacher.Target(MethodCacher.Key.targetize(point), null)
+        );
+        for (final MethodCacher.Key key : keys) {
+            final MethodCacher.Tunnel removed = this.drop(key, true);
+            if (removed == null) {
+                continue;
+            }
+            if (LogHelper.enabled(
+                key.getLevel(), method.getDeclaringClass()
+            )) {
+                LogHelper.log(
+                    key.getLevel(),
+                    method.getDeclaringClass(),
+                    "%s: %s:%s removed from cache %s",
+                    Mnemos.toText(method, point.getArgs(), true, false),
+                    key,
+                    removed,
+                    when
+                );
+            }
+        }
+    }
+
+    /**
+     * Remove from cache all values of methods with the given tags.
+     * @param shared Remove them from the shared store too?
+     * @param names The tags
+     * @return How many values were removed
+     */
+    private int untag(final boolean shared, final String... names) {
+        int removed = 0;
+        for (final String tag : names) {
+            for (final MethodCacher.Key key : this.tags.get(tag)) {
+                final MethodCacher.Tunnel tunnel = this.drop(key, shared);
+                if (tunnel != null) {
+                    ++removed;
+                    LogHelper.log(
+                        key.getLevel(),
+                        this,
+                        "%s:%s removed from cache by tag \"%s\"",
+                        key,
+                        tunnel,
+                        tag
+                    );
                 }
-                final MethodCacher.Tunnel removed = this.tunnels.remove(key);
-                final Method method = ((MethodSignature) point.getSignature())
-                    .getMethod();
-                if (LogHelper.enabled(
-                    key.getLevel(), method.getDeclaringClass()
-                )) {
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Apply invalidations that came from other JVMs.
+     *
+     * <p>It happens in the thread of the bus, the callers of cached
+     * methods are not blocked meanwhile. Values are removed only from
+     * memory, the JVM which sent them has already removed them from the
+     * shared store.
+     *
+     * @param events The events, see {@link Invalidations}
+     */
+    private void receive(final Collection<String> events) {
+        for (final String event : events) {
+            if (event.startsWith(Invalidations.TAG)) {
+                this.untag(
+                    false, event.substring(Invalidations.TAG.length())
+                );
+            } else if (event.startsWith(Invalidations.TYPE)) {
+                final String type = event.substring(
+                    Invalidations.TYPE.length()
+                );
+                this.discard(
+                    method -> MethodCacher.inherits(
+                        type, method.getDeclaringClass()
+                    ),
+                    event
+                );
+            } else if (CacheBus.EVERYTHING.equals(event)) {
+                this.discard(method -> true, event);
+            }
+        }
+    }
+
+    /**
+     * Does the class with this name inherit methods of the base class?
+     *
+     * <p>The class is loaded by the loader of the base class, since they
+     * must be related; if it can't be loaded there, only the names are
+     * compared.
+     *
+     * @param name Name of the class
+     * @param base The base class
+     * @return TRUE if it's the same class or its subclass
+     */
+    private static boolean inherits(final String name, final Class<?> base) {
+        boolean inherits = base.getName().equals(name);
+        if (!inherits) {
+            try {
+                inherits = base.isAssignableFrom(
+                    Class.forName(name, false, base.getClassLoader())
+                );
+            } catch (final ClassNotFoundException | LinkageError ex) {
+                inherits = false;
+            }
+        }
+        return inherits;
+    }
+
+    /**
+     * Remove from memory all values of the methods.
+     * @param methods Which methods
+     * @param reason Why, for logging
+     */
+    private void discard(final Predicate<Method> methods,
+        final String reason) {
+        for (final Map.Entry<Method, MethodCacher.Region> entry
+            : this.regions.entrySet()) {
+            if (!methods.test(entry.getKey())) {
+                continue;
+            }
+            final MethodCacher.Region region = entry.getValue();
+            for (final MethodCacher.Key key : region.tunnels.keySet()) {
+                final MethodCacher.Tunnel tunnel = region.tunnels.remove(key);
+                if (tunnel != null) {
+                    this.forget(tunnel);
                     LogHelper.log(
                         key.getLevel(),
-                        method.getDeclaringClass(),
-                        "%s: %s:%s removed from cache %s",
-                        Mnemos.toText(method, point.getArgs(), true, false),
+                        this,
+                        "%s:%s removed from cache by \"%s\" of another JVM",
                         key,
-                        removed,
-                        when
+                        tunnel,
+                        reason
                     );
                 }
             }
@@ -246,193 +717,1241 @@ public final class MethodCacher {
 
     /**
      * Clean cache.
+     *
+     * <p>Regions are cleaned one by one, and only tunnels whose deadlines
+     * have come are visited, not the entire map. The tunnel is removed
+     * only if it is still in the map, a fresh one that may have replaced
+     * it in the meantime stays there.
      */
     private void clean() {
-        synchronized (this.tunnels) {
-            for (final Map.Entry<MethodCacher.Key, MethodCacher.Tunnel> entry
-                : this.tunnels.entrySet()) {
-                final MethodCacher.Key key = entry.getKey();
-                if (entry.getValue().expired()
-                    && !entry.getValue().asyncUpdate()) {
-                    final MethodCacher.Tunnel tunnel = this.tunnels.remove(key);
+        this.collect();
+        final long now = this.clock.millis();
+        for (final MethodCacher.Region region : this.regions.values()) {
+            region.deadlines.expire(now, this::expire);
+        }
+    }
+
+    /**
+     * Remove all entries of targets already collected by GC.
+     *
+     * <p>The first key of a target, added to the index of targets, holds
+     * the reference, which finds all keys of the target in the index.
+     * References of other keys of the same target are ignored.
+     */
+    private void collect() {
+        Reference<?> ref = this.collected.poll();
+        while (ref != null) {
+            for (final MethodCacher.Key key
+                : this.targets.clear((MethodCacher.Target) ref)) {
+                final MethodCacher.Tunnel tunnel =
+                    key.site.region.tunnels.remove(key);
+                if (tunnel != null) {
+                    this.forget(tunnel);
                     LogHelper.log(
                         key.getLevel(),
                         this,
-                        "%s:%s expired in cache",
+                        "%s:%s removed from cache, its target is collected",
                         key,
                         tunnel
                     );
                 }
             }
+            ref = this.collected.poll();
         }
     }
 
     /**
-     * Update cache.
+     * Remove the tunnel, if it is expired and still in the map.
+     * @param tunnel The tunnel
      */
-    @SuppressWarnings("PMD.AvoidCatchingThrowable")
-    private void update() {
-        while (true) {
-            try {
-                final MethodCacher.Key key = this.updatekeys.take();
-                final MethodCacher.Tunnel tunnel = this.tunnels.get(key);
-                if (tunnel != null && tunnel.expired()) {
-                    final MethodCacher.Tunnel after = tunnel.copy();
-                    after.through();
-                    this.tunnels.put(key, after);
+    private void expire(final MethodCacher.Tunnel tunnel) {
+        final MethodCacher.Key key = tunnel.key;
+        if (tunnel.expired() && !tunnel.asyncUpdate()
+            && key.site.region.tunnels.remove(key, tunnel)) {
+            this.forget(tunnel);
+            key.site.stats.expired();
+            LogHelper.log(
+                key.getLevel(),
+                this,
+                "%s:%s expired in cache",
+                key,
+                tunnel
+            );
+        }
+    }
+
+    /**
+     * Evict entries until the limits of the region and the total limits
+     * of the cache are respected.
+     *
+     * <p>When the total amount of entries is over the limit, entries of
+     * the region with most of them are evicted; when the total weight
+     * is, entries of the heaviest region are.
+     *
+     * @param region The region of the method just cached
+     */
+    private void enforce(final MethodCacher.Region region) {
+        boolean over = region.exceeded();
+        while (over) {
+            over = this.evict(region) && region.exceeded();
+        }
+        over = this.overflows();
+        while (over) {
+            final boolean crowded = this.capacity > 0L
+                && this.total.get() > this.capacity;
+            MethodCacher.Region largest = region;
+            for (final MethodCacher.Region candidate : this.regions.values()) {
+                if (crowded && candidate.size() > largest.size()
+                    || !crowded && candidate.weight() > largest.weight()) {
+                    largest = candidate;
                 }
-            } catch (final InterruptedException ex) {
-                LogHelper.log(
-                    Loggable.ERROR,
-                    this,
-                    "%s:%s",
-                    ex.getMessage(),
-                    ex
-                );
-            // @checkstyle IllegalCatch (1 line)
-            } catch (final Throwable ex) {
+            }
+            over = this.evict(largest) && this.overflows();
+        }
+        region.compact();
+    }
+
+    /**
+     * Are there more entries in cache, or more bytes, than allowed?
+     * @return TRUE if so
+     */
+    private boolean overflows() {
+        return this.capacity > 0L && this.total.get() > this.capacity
+            || this.budget > 0L && this.weight.get() > this.budget;
+    }
+
+    /**
+     * Evict one entry of the method, which wasn't used recently.
+     *
+     * <p>This is the "second chance" (CLOCK) approximation of LRU:
+     * tunnels are polled from the head of the queue, the ones which
+     * were hit since the last visit are put back to its tail, and the
+     * first one which wasn't is evicted. Tunnels already gone from the
+     * map are simply dropped.
+     *
+     * @param region The region of the method
+     * @return TRUE if something was evicted
+     */
+    private boolean evict(final MethodCacher.Region region) {
+        boolean evicted = false;
+        for (int step = region.queued() * 2 + 1; step > 0 && !evicted;
+            --step) {
+            final MethodCacher.Tunnel tunnel = region.poll();
+            if (tunnel == null) {
+                break;
+            }
+            if (tunnel.retired || region.tunnels.get(tunnel.key) != tunnel) {
+                continue;
+            }
+            if (tunnel.touched) {
+                tunnel.touched = false;
+                region.admit(tunnel, false);
+            } else if (region.tunnels.remove(tunnel.key, tunnel)) {
+                this.forget(tunnel);
+                tunnel.key.site.stats.evicted();
                 LogHelper.log(
-                    Loggable.ERROR,
+                    tunnel.key.getLevel(),
                     this,
-                    "Exception message is %s, Exception is %s",
-                    ex.getMessage(),
-                    ex
+                    "%s:%s evicted from cache",
+                    tunnel.key,
+                    tunnel
                 );
+                evicted = true;
             }
         }
+        return evicted;
     }
 
     /**
-     * Mutable caching/calling tunnel, it is thread-safe.
-     *
-     * @since 0.8
+     * Account for a tunnel which was removed from the map.
+     * @param tunnel The tunnel removed
      */
-    private static final class Tunnel {
-        /**
-         * Proceeding join point.
-         */
-        private final transient ProceedingJoinPoint point;
-
-        /**
-         * Key related to this tunnel.
-         */
-        private final transient MethodCacher.Key key;
-
-        /**
-         * Whether asynchronous update.
-         */
-        private final transient boolean asynchupdate;
+    private void forget(final MethodCacher.Tunnel tunnel) {
+        this.retire(tunnel);
+        if (tunnel.scheduled.get() && tunnel.lifetime < Long.MAX_VALUE) {
+            tunnel.region.deadlines.cancel(tunnel, tunnel.lifetime);
+        }
+        tunnel.region.shrink();
+        this.total.decrementAndGet();
+        final MethodCacher.Key key = tunnel.key;
+        final Map<MethodCacher.Key, MethodCacher.Tunnel> tunnels =
+            tunnel.region.tunnels;
+        this.targets.remove(key.target, key, tunnels::containsKey);
+        for (final String tag : key.site.annot.tags()) {
+            this.tags.remove(tag, key, tunnels::containsKey);
+        }
+    }
 
-        /**
-         * Was it already executed?
-         */
-        private transient boolean executed;
+    /**
+     * Mark the tunnel as removed or replaced in the map and take its
+     * weight out of the region and the cache.
+     * @param tunnel The tunnel
+     */
+    private void retire(final MethodCacher.Tunnel tunnel) {
+        tunnel.retired = true;
+        final long bytes = tunnel.weight.getAndSet(0L);
+        if (bytes != 0L) {
+            tunnel.region.weigh(-bytes);
+            this.weight.addAndGet(-bytes);
+        }
+    }
 
-        /**
+    /**
+     * Weigh the value of the tunnel, if its method is weighed, and
+     * evict other entries, if they are too heavy now.
+     *
+     * <p>The weight is added first and then taken out again, if the
+     * tunnel was retired meanwhile, so that it's never lost or taken
+     * out twice.
+     *
+     * @param tunnel The tunnel, with its value ready
+     */
+    private void weigh(final MethodCacher.Tunnel tunnel) {
+        final Cacheable.Weigher weigher = tunnel.key.site.weigher;
+        if (weigher != null) {
+            final long bytes = weigher.weigh(tunnel.payload());
+            tunnel.region.weigh(bytes);
+            this.weight.addAndGet(bytes);
+            tunnel.weight.set(bytes);
+            if (tunnel.retired) {
+                this.retire(tunnel);
+            }
+            this.enforce(tunnel.region);
+        }
+    }
+
+    /**
+     * Remove the key from cache.
+     * @param key The key
+     * @param shared Remove it from the shared store too?
+     * @return The tunnel removed or NULL if it was not in the map
+     */
+    private MethodCacher.Tunnel drop(final MethodCacher.Key key,
+        final boolean shared) {
+        final MethodCacher.Tunnel removed = key.site.region.tunnels.remove(key);
+        if (removed != null) {
+            this.forget(removed);
+            if (shared && key.site.tier != null) {
+                key.site.tier.remove(key.id());
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Add the key, just put into the map, to the indexes of targets
+     * and tags.
+     *
+     * <p>It happens after the key is visible in the map, see
+     * {@link Index}.
+     *
+     * @param key The key
+     */
+    private void index(final MethodCacher.Key key) {
+        this.targets.add(key.target, key);
+        for (final String tag : key.site.annot.tags()) {
+            this.tags.add(tag, key);
+        }
+    }
+
+    /**
+     * Register the deadline of the tunnel, if it is executed and not
+     * registered yet.
+     *
+     * <p>It is called even if the tunnel throws, since a cached exception
+     * has its deadline too. A future which is not completed yet gets the
+     * deadline of its call, so that the one which never completes doesn't
+     * stay in cache forever; it is registered before the completion is
+     * awaited, since {@link #settle} replaces it.
+     *
+     * @param tunnel The tunnel
+     */
+    private void schedule(final MethodCacher.Tunnel tunnel) {
+        if (tunnel.executed && tunnel.scheduled.compareAndSet(false, true)) {
+            final boolean pending = tunnel.promise != null && !tunnel.settled;
+            if (!pending) {
+                this.weigh(tunnel);
+            }
+            if (!tunnel.asyncUpdate() && tunnel.lifetime < Long.MAX_VALUE) {
+                this.deadline(tunnel);
+            }
+            if (pending) {
+                final long bound = tunnel.lifetime;
+                tunnel.promise.whenComplete(
+                    (value, error) -> this.settle(tunnel, bound, value, error)
+                );
+            }
+        }
+    }
+
+    /**
+     * Add the deadline of the tunnel to its region.
+     *
+     * <p>If the tunnel was removed from the map meanwhile, its deadline
+     * is cancelled again, since nobody else would do that.
+     *
+     * @param tunnel The tunnel
+     */
+    private void deadline(final MethodCacher.Tunnel tunnel) {
+        tunnel.region.deadlines.schedule(tunnel, tunnel.lifetime);
+        if (tunnel.retired) {
+            tunnel.region.deadlines.cancel(tunnel, tunnel.lifetime);
+        }
+    }
+
+    /**
+     * The future cached in the tunnel is completed: either start the
+     * lifetime of its value or remove it from cache, if it failed.
+     * @param tunnel The tunnel
+     * @param bound The deadline of the pending future
+     * @param value The value of the future
+     * @param error The exception of the future, NULL if none
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void settle(final MethodCacher.Tunnel tunnel, final long bound,
+        final Object value, final Throwable error) {
+        if (tunnel.settle(value, error)) {
+            this.weigh(tunnel);
+            if (!tunnel.asyncUpdate() && bound < Long.MAX_VALUE) {
+                tunnel.region.deadlines.cancel(tunnel, bound);
+            }
+            if (!tunnel.asyncUpdate() && tunnel.lifetime < Long.MAX_VALUE) {
+                this.deadline(tunnel);
+            }
+        } else if (tunnel.region.tunnels.remove(tunnel.key, tunnel)) {
+            this.forget(tunnel);
+            LogHelper.log(
+                tunnel.key.getLevel(),
+                this,
+                "%s: removed from cache, the future failed: %[exception]s",
+                tunnel.key,
+                error
+            );
+        }
+    }
+
+    /**
+     * Make the shared store, if it's configured.
+     * @return The store or NULL
+     */
+    private static SharedTier tier() {
+        SharedTier tier;
+        try {
+            tier = SharedTier.configured();
+        } catch (final ReflectiveOperationException ex) {
+            Logger.warn(
+                MethodCacher.class,
+                "Can't make @Cacheable store: %[exception]s",
+                ex
+            );
+            tier = null;
+        }
+        if (tier != null) {
+            Logger.info(MethodCacher.class, "@Cacheable store is %s", tier);
+        }
+        return tier;
+    }
+
+    /**
+     * Make invalidations of other JVMs, if the bus is configured.
+     * @return Invalidations or NULL
+     */
+    private static Invalidations bus() {
+        Invalidations bus;
+        try {
+            bus = Invalidations.configured();
+        } catch (final ReflectiveOperationException ex) {
+            Logger.warn(
+                MethodCacher.class,
+                "Can't make @Cacheable bus: %[exception]s",
+                ex
+            );
+            bus = null;
+        }
+        if (bus != null) {
+            Logger.info(MethodCacher.class, "@Cacheable bus is %s", bus);
+        }
+        return bus;
+    }
+
+    /**
+     * Read the integer system property, which must be positive.
+     *
+     * <p>A zero or negative value is replaced by one, with a warning,
+     * since the executor of updates can't be made with it.
+     *
+     * @param name Name of the property
+     * @param dflt Its default value
+     * @return The value, at least one
+     */
+    private static int positive(final String name, final int dflt) {
+        int value = Integer.getInteger(name, dflt);
+        if (value < 1) {
+            Logger.warn(
+                MethodCacher.class,
+                "System property %s is %d, but it must be positive, 1 is used",
+                name, value
+            );
+            value = 1;
+        }
+        return value;
+    }
+
+    /**
+     * Load values from the snapshot.
+     *
+     * <p>It happens in the constructor of the aspect, that's why any
+     * failure is only logged: a broken snapshot must not break
+     * {@code @Cacheable} methods.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void warm() {
+        try {
+            final int loaded = this.snapshot.load(this.clock.millis());
+            Logger.info(
+                this, "%d @Cacheable value(s) loaded from snapshot %s",
+                loaded, System.getProperty(MethodCacher.SNAPSHOT)
+            );
+        // @checkstyle IllegalCatch (1 line)
+        } catch (final IOException | RuntimeException ex) {
+            Logger.warn(
+                this, "Can't load @Cacheable snapshot %s: %[exception]s",
+                System.getProperty(MethodCacher.SNAPSHOT), ex
+            );
+        }
+    }
+
+    /**
+     * Save values to the snapshot.
+     */
+    private void persist() {
+        final Collection<Snapshot.Entry> entries = new LinkedList<>();
+        try {
+            for (final MethodCacher.Region region : this.regions.values()) {
+                for (final MethodCacher.Tunnel tunnel
+                    : region.tunnels.values()) {
+                    if (tunnel.persistent() && !tunnel.expired()) {
+                        entries.add(tunnel.entry());
+                    }
+                }
+            }
+            final int saved = this.snapshot.save(entries);
+            Logger.debug(
+                this, "%d of %d @Cacheable value(s) saved to snapshot %s",
+                saved, entries.size(), System.getProperty(MethodCacher.SNAPSHOT)
+            );
+        } catch (final IOException ex) {
+            Logger.warn(
+                this, "Can't save @Cacheable snapshot %s: %[exception]s",
+                System.getProperty(MethodCacher.SNAPSHOT), ex
+            );
+        }
+    }
+
+    /**
+     * Update cache.
+     *
+     * <p>The value is recalculated only if the tunnel is still in the map,
+     * and the fresh tunnel replaces it only if it is still there after
+     * the calculation.
+     *
+     * @param key The key to update
+     * @param tunnel The tunnel to replace
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private void update(final MethodCacher.Key key,
+        final MethodCacher.Tunnel tunnel) {
+        try {
+            if (tunnel.region.tunnels.get(key) == tunnel) {
+                final MethodCacher.Tunnel after = tunnel.copy();
+                after.through();
+                if (after.promise == null) {
+                    this.replace(key, tunnel, after);
+                } else {
+                    after.promise.whenComplete(
+                        (value, error) -> {
+                            if (after.settle(value, error)) {
+                                this.replace(key, tunnel, after);
+                            }
+                        }
+                    );
+                }
+            }
+        // @checkstyle IllegalCatch (1 line)
+        } catch (final Throwable ex) {
+            LogHelper.log(
+                Loggable.ERROR,
+                this,
+                "Exception message is %s, Exception is %s",
+                ex.getMessage(),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Replace the tunnel with the updated one, if it's still in the map.
+     * @param key The key
+     * @param tunnel The tunnel to replace
+     * @param after The updated tunnel
+     */
+    private void replace(final MethodCacher.Key key,
+        final MethodCacher.Tunnel tunnel, final MethodCacher.Tunnel after) {
+        if (after.region.tunnels.replace(key, tunnel, after)) {
+            this.retire(tunnel);
+            after.region.admit(after, false);
+            key.site.stats.refreshed();
+            this.schedule(after);
+        }
+    }
+
+    /**
+     * Mutable caching/calling tunnel, it is thread-safe.
+     *
+     * @since 0.8
+     */
+    private static final class Tunnel {
+        /**
+         * Proceeding join point, NULL when it's not needed any more.
+         */
+        private transient volatile ProceedingJoinPoint point;
+
+        /**
+         * Key related to this tunnel.
+         */
+        private final transient MethodCacher.Key key;
+
+        /**
+         * Whether asynchronous update.
+         */
+        private final transient boolean asynchupdate;
+
+        /**
+         * Region of the method.
+         */
+        private final transient MethodCacher.Region region;
+
+        /**
+         * Was it hit since the last visit of the eviction?
+         */
+        private transient volatile boolean touched;
+
+        /**
+         * Is it already removed or replaced in the map?
+         */
+        private transient volatile boolean retired;
+
+        /**
+         * Is its deadline already scheduled for cleaning?
+         */
+        private final transient AtomicBoolean scheduled;
+
+        /**
+         * Was it already executed?
+         */
+        private transient volatile boolean executed;
+
+        /**
          * When will it expire (moment in time).
          */
-        private transient long lifetime;
+        private transient volatile long lifetime;
+
+        /**
+         * When it should be refreshed ahead of expiration (moment in time).
+         */
+        private transient volatile long refresh;
+
+        /**
+         * Cached value, safely published by {@link #executed}.
+         */
+        private transient Object cached;
+
+        /**
+         * Future returned by the method, NULL if it returned something else.
+         */
+        private transient volatile CompletableFuture<?> promise;
+
+        /**
+         * Is the lifetime of the future already calculated?
+         */
+        private transient volatile boolean settled;
+
+        /**
+         * Calculation in progress or completed, NULL if not started.
+         */
+        private final transient AtomicReference<CompletableFuture<Object>> future;
+
+        /**
+         * Weight of the value, in bytes, counted in the region.
+         */
+        private final transient AtomicLong weight;
+
+        /**
+         * Public ctor.
+         * @param pnt ProceedingJoinPoint
+         * @param akey MethodCacher.Key
+         * @param aupdate Boolean
+         * @param rgn Region of the method
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Tunnel(final ProceedingJoinPoint pnt, final MethodCacher.Key akey,
+            final boolean aupdate, final MethodCacher.Region rgn) {
+            this.point = pnt;
+            this.key = akey;
+            this.asynchupdate = aupdate;
+            this.region = rgn;
+            this.refresh = Long.MAX_VALUE;
+            this.future = new AtomicReference<>();
+            this.weight = new AtomicLong();
+            this.scheduled = new AtomicBoolean();
+        }
+
+        @Override
+        public String toString() {
+            return Mnemos.toText(this.cached, true, false);
+        }
+
+        /**
+         * Public ctor.
+         * @return MethodCacher.Tunnel
+         */
+        public MethodCacher.Tunnel copy() {
+            return new MethodCacher.Tunnel(
+                this.point, this.key, this.asynchupdate, this.region
+            );
+        }
+
+        /**
+         * Get a result through the tunnel.
+         *
+         * <p>Once the value is calculated, this method takes no locks.
+         * Before that, the first caller calculates it and all others, who
+         * come meanwhile, wait for its result (or its exception).
+         *
+         * @return The result
+         * @throws Throwable If something goes wrong inside
+         * @checkstyle IllegalThrows (5 lines)
+         */
+        public Object through() throws Throwable {
+            final Object result;
+            if (this.executed) {
+                result = this.value();
+                if (!this.touched) {
+                    this.touched = true;
+                }
+            } else {
+                result = this.flight();
+            }
+            final Object value = this.key.through(result);
+            if (value instanceof MethodCacher.Failure) {
+                throw ((MethodCacher.Failure) value).error;
+            }
+            return value;
+        }
+
+        /**
+         * Calculate the value, or wait for the calculation that is already
+         * in progress.
+         * @return The value
+         * @throws Throwable If something goes wrong inside
+         * @checkstyle IllegalThrows (5 lines)
+         */
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        private Object flight() throws Throwable {
+            final CompletableFuture<Object> mine = new CompletableFuture<>();
+            final CompletableFuture<Object> current =
+                this.future.updateAndGet(
+                    existing -> {
+                        final CompletableFuture<Object> next;
+                        if (existing == null) {
+                            next = mine;
+                        } else {
+                            next = existing;
+                        }
+                        return next;
+                    }
+                );
+            final Object result;
+            if (current == mine) {
+                try {
+                    result = this.execute();
+                    mine.complete(result);
+                // @checkstyle IllegalCatch (1 line)
+                } catch (final Throwable ex) {
+                    this.future.set(null);
+                    mine.completeExceptionally(ex);
+                    throw ex;
+                }
+            } else {
+                try {
+                    result = current.join();
+                } catch (final CompletionException ex) {
+                    throw ex.getCause();
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Find the value in the shared store or call the method.
+         * @return The result
+         * @throws Throwable If something goes wrong inside
+         * @checkstyle IllegalThrows (5 lines)
+         */
+        private Object execute() throws Throwable {
+            final SharedTier tier = this.key.site.tier;
+            CacheStore.Entry entry = null;
+            if (tier != null) {
+                entry = tier.find(this.key.id(), this.region.clock.millis());
+            }
+            final Object result;
+            if (entry == null) {
+                result = this.call();
+                if (tier != null && this.promise == null
+                    && !(result instanceof MethodCacher.Failure)
+                    && this.lifetime > this.region.clock.millis()) {
+                    tier.put(this.key.id(), result, this.lifetime);
+                }
+            } else {
+                this.restore(entry.value(), entry.deadline(), "shared store");
+                result = entry.value();
+            }
+            return result;
+        }
+
+        /**
+         * Call the method and keep its result.
+         *
+         * <p>The join point is released afterwards, unless it's needed
+         * for updates, since it refers to the target, which otherwise
+         * may be collected by GC together with its cached values.
+         *
+         * <p>Exceptions listed in {@link Cacheable#cacheExceptions()} are
+         * cached as {@link MethodCacher.Failure}s and returned, all others
+         * are thrown.
+         *
+         * @return The result
+         * @throws Throwable If something goes wrong inside
+         * @checkstyle IllegalThrows (5 lines)
+         */
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        private Object call() throws Throwable {
+            Object result;
+            final long start = this.region.clock.millis();
+            final long begin = System.nanoTime();
+            final ProceedingJoinPoint pnt = this.point;
+            final Method method = this.key.method;
+            final Cacheable annot = this.key.site.annot;
+            try {
+                result = pnt.proceed();
+                this.key.site.stats.loaded(System.nanoTime() - begin);
+                if (result instanceof CompletableFuture) {
+                    this.promise = (CompletableFuture<?>) result;
+                    this.cached = result;
+                } else {
+                    this.cached = MethodCacher.Tunnel.store(annot, result);
+                }
+            // @checkstyle IllegalCatch (1 line)
+            } catch (final Throwable ex) {
+                if (!MethodCacher.Tunnel.cacheable(annot, ex)) {
+                    throw ex;
+                }
+                result = new MethodCacher.Failure(ex);
+                this.cached = result;
+            }
+            final String suffix;
+            if (this.promise == null) {
+                suffix = this.deadline(
+                    start,
+                    result instanceof MethodCacher.Failure
+                        || MethodCacher.Tunnel.empty(result)
+                );
+            } else {
+                this.deadline(start, false);
+                this.refresh = Long.MAX_VALUE;
+                suffix = "valid since its completion";
+            }
+            final Class<?> type = method.getDeclaringClass();
+            if (LogHelper.enabled(this.key.getLevel(), type)) {
+                LogHelper.log(
+                    this.key.getLevel(),
+                    type,
+                    "%s: %s cached in %[nano]s, %s",
+                    Mnemos.toText(method, pnt.getArgs(), true, false),
+                    Mnemos.toText(result, true, false),
+                    System.nanoTime() - begin,
+                    suffix
+                );
+            }
+            if (!this.asynchupdate
+                && (annot.forever() || annot.refreshAhead() <= 0.0d)) {
+                this.point = null;
+            }
+            this.executed = true;
+            return result;
+        }
+
+        /**
+         * The future returned by the method is completed.
+         *
+         * <p>The lifetime of the value starts now. If the future failed,
+         * the value shall be removed from cache, unless the exception is
+         * listed in {@link Cacheable#cacheExceptions()}.
+         *
+         * @param value The value of the future
+         * @param error The exception of the future, NULL if none
+         * @return TRUE if the value shall stay in cache
+         */
+        public boolean settle(final Object value, final Throwable error) {
+            Throwable cause = error;
+            if (cause instanceof CompletionException
+                && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            final boolean keep = cause == null
+                || MethodCacher.Tunnel.cacheable(this.key.site.annot, cause);
+            if (keep) {
+                this.deadline(
+                    this.region.clock.millis(),
+                    cause != null || MethodCacher.Tunnel.empty(value)
+                );
+            }
+            this.settled = true;
+            return keep;
+        }
+
+        /**
+         * Calculate the moment when the value expires.
+         * @param start When its lifetime starts
+         * @param negative Is it an exception or an empty value?
+         * @return Description of the lifetime, for logging
+         */
+        private String deadline(final long start, final boolean negative) {
+            final Cacheable annot = this.key.site.annot;
+            final String suffix;
+            if (negative && annot.negativeLifetime() >= 0) {
+                final long msec = annot.unit().toMillis(
+                    (long) annot.negativeLifetime()
+                );
+                if (msec == 0L) {
+                    this.lifetime = 0L;
+                    suffix = "invalid immediately, as negative";
+                } else {
+                    this.lifetime = start + msec;
+                    suffix = Logger.format(
+                        "valid for %[ms]s, as negative", msec
+                    );
+                }
+            } else if (annot.forever()) {
+                this.lifetime = Long.MAX_VALUE;
+                suffix = "valid forever";
+            } else if (annot.lifetime() == 0) {
+                this.lifetime = 0L;
+                suffix = "invalid immediately";
+            } else {
+                final long msec = annot.unit().toMillis(
+                    (long) annot.lifetime()
+                );
+                this.lifetime = start + msec;
+                suffix = Logger.format("valid for %[ms]s", msec);
+                if (annot.refreshAhead() > 0.0d && !negative) {
+                    this.refresh = start
+                        + (long) ((double) msec * annot.refreshAhead());
+                }
+            }
+            return suffix;
+        }
+
+        /**
+         * Take the value saved earlier, instead of calling the method.
+         * @param value The value
+         * @param deadline When it expires, in milliseconds since the epoch
+         * @param source Where it was saved
+         */
+        public void restore(final Object value, final long deadline,
+            final String source) {
+            this.cached = MethodCacher.Tunnel.store(this.key.site.annot, value);
+            this.lifetime = deadline;
+            this.executed = true;
+            LogHelper.log(
+                this.key.getLevel(),
+                MethodCacher.class,
+                "%s:%s restored from %s",
+                this.key,
+                this,
+                source
+            );
+        }
+
+        /**
+         * Shall it be saved to the snapshot?
+         * @return TRUE if so
+         */
+        public boolean persistent() {
+            return this.executed && this.key.site.statik
+                && this.key.site.annot.snapshot()
+                && !(this.cached instanceof MethodCacher.Failure);
+        }
+
+        /**
+         * Make an entry of the snapshot.
+         * @return The entry
+         * @throws IOException If the value can't be decoded
+         */
+        public Snapshot.Entry entry() throws IOException {
+            return new Snapshot.Entry(
+                this.key.site.name, this.key.arguments,
+                this.value(), this.lifetime
+            );
+        }
+
+        /**
+         * Cached value, decoded if it is kept off-heap.
+         * @return The value
+         * @throws IOException If it can't be decoded
+         */
+        private Object value() throws IOException {
+            final Object value;
+            if (this.cached instanceof OffHeap) {
+                value = ((OffHeap) this.cached).value();
+            } else {
+                value = this.cached;
+            }
+            return value;
+        }
+
+        /**
+         * Prepare the result of the method for keeping in cache.
+         * @param annot The annotation of the method
+         * @param result The result
+         * @return The result itself or its off-heap handle
+         */
+        private static Object store(final Cacheable annot,
+            final Object result) {
+            Object stored = result;
+            if (annot.offHeap() && result != null) {
+                try {
+                    stored = new OffHeap(OffHeap.codec(annot.codec()), result);
+                } catch (final IOException ex) {
+                    LogHelper.log(
+                        Loggable.WARN,
+                        MethodCacher.class,
+                        "Can't keep %[type]s off-heap, cached in heap: %s",
+                        result,
+                        ex.getMessage()
+                    );
+                }
+            }
+            return stored;
+        }
+
+        /**
+         * Is it an empty result?
+         * @param result The result
+         * @return TRUE if it is NULL or empty
+         */
+        private static boolean empty(final Object result) {
+            final boolean empty;
+            if (result == null) {
+                empty = true;
+            } else if (result instanceof CharSequence) {
+                empty = ((CharSequence) result).length() == 0;
+            } else if (result instanceof Collection) {
+                empty = ((Collection<?>) result).isEmpty();
+            } else if (result instanceof Map) {
+                empty = ((Map<?, ?>) result).isEmpty();
+            } else if (result instanceof Optional) {
+                empty = !((Optional<?>) result).isPresent();
+            } else if (result.getClass().isArray()) {
+                empty = Array.getLength(result) == 0;
+            } else {
+                empty = false;
+            }
+            return empty;
+        }
+
+        /**
+         * Shall the exception be cached?
+         * @param annot The annotation of the method
+         * @param error The exception
+         * @return TRUE if it's listed in the annotation
+         */
+        private static boolean cacheable(final Cacheable annot,
+            final Throwable error) {
+            boolean cacheable = false;
+            for (final Class<? extends Throwable> type
+                : annot.cacheExceptions()) {
+                if (type.isInstance(error)) {
+                    cacheable = true;
+                    break;
+                }
+            }
+            return cacheable;
+        }
+
+        /**
+         * The value to weigh: the result of the method or the value of
+         * the future it returned, if it's completed successfully.
+         * @return The value
+         */
+        public Object payload() {
+            Object payload = this.cached;
+            if (this.promise != null) {
+                if (this.promise.isDone()
+                    && !this.promise.isCompletedExceptionally()) {
+                    payload = this.promise.join();
+                } else {
+                    payload = null;
+                }
+            }
+            return payload;
+        }
+
+        /**
+         * Is it expired already?
+         *
+         * <p>It is expired at its deadline, the same moment when
+         * {@link Deadlines} delivers it to the sweep.
+         *
+         * @return TRUE if expired
+         */
+        public boolean expired() {
+            return this.executed
+                && this.lifetime <= this.region.clock.millis();
+        }
+
+        /**
+         * Shall it be refreshed ahead of expiration?
+         *
+         * <p>It is refreshed only if the value was already taken from
+         * cache at least once, there is no reason to refresh values
+         * nobody uses.
+         *
+         * @return TRUE if it's time to refresh it
+         */
+        public boolean ahead() {
+            return this.refresh < this.region.clock.millis()
+                && this.key.accessed.get() > 1;
+        }
+
+        /**
+         * Whether asynchronous update.
+         * @return TRUE if asynchronous update
+         */
+        public boolean asyncUpdate() {
+            return this.asynchupdate;
+        }
+    }
+
+    /**
+     * Region of a cached method: its own map of tunnels, the deadlines
+     * of them, the amount of its entries in cache, the limit of it and
+     * the queue of tunnels for the eviction.
+     *
+     * <p>Regions don't share maps, queues or counters, so that a method
+     * which floods the cache doesn't slow down lookups, expiration and
+     * eviction of other methods; they only share the total capacity of
+     * the cache, if it's limited.
+     *
+     * <p>The queue is maintained only if the amount of entries is
+     * limited, either for the method or for the entire cache. It may
+     * contain tunnels that are no longer in the map, they are dropped
+     * during eviction or when there are too many of them.
+     *
+     * @since 1.0
+     */
+    private static final class Region {
+        /**
+         * Calling tunnels.
+         * @checkstyle LineLength (2 lines)
+         */
+        private final transient ConcurrentMap<MethodCacher.Key, MethodCacher.Tunnel> tunnels;
+
+        /**
+         * Tunnels by the moments they expire.
+         */
+        private final transient Deadlines<MethodCacher.Tunnel> deadlines;
+
+        /**
+         * Clock of expiration.
+         */
+        private final transient Clock clock;
+
+        /**
+         * Maximum amount of entries, zero if not limited.
+         */
+        private final transient int max;
+
+        /**
+         * Maximum weight of entries, zero if not limited.
+         */
+        private final transient long heavy;
+
+        /**
+         * Shall values be weighed?
+         */
+        private final transient boolean weighed;
+
+        /**
+         * Weight of entries in cache, in bytes.
+         */
+        private final transient AtomicLong bytes;
+
+        /**
+         * Shall the eviction queue be maintained?
+         */
+        private final transient boolean tracked;
+
+        /**
+         * Amount of entries in cache.
+         */
+        private final transient AtomicInteger entries;
+
+        /**
+         * Tunnels in order of admission.
+         */
+        private final transient Queue<MethodCacher.Tunnel> queue;
+
+        /**
+         * Amount of tunnels in the queue.
+         */
+        private final transient AtomicInteger length;
+
+        /**
+         * Ctor.
+         * @param annot Annotation of the method
+         * @param capacity Maximum total amount of entries, zero if not
+         *  limited
+         * @param budget Maximum total weight of entries, zero if not
+         *  limited
+         * @param time Clock of expiration
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Region(final Cacheable annot, final long capacity, final long budget,
+            final Clock time) {
+            this.clock = time;
+            this.tunnels = new ConcurrentHashMap<>(0);
+            this.deadlines = new Deadlines<>(MethodCacher.TICK);
+            this.max = annot.maxSize();
+            this.heavy = annot.maxWeight();
+            this.weighed = this.heavy > 0L || budget > 0L
+                || !annot.weigher().equals(Cacheable.Weigher.class);
+            this.bytes = new AtomicLong();
+            this.tracked = this.max > 0 || this.heavy > 0L
+                || capacity > 0L || budget > 0L;
+            this.entries = new AtomicInteger();
+            this.queue = new ConcurrentLinkedQueue<>();
+            this.length = new AtomicInteger();
+        }
 
         /**
-         * Cached value.
+         * Register a tunnel just put into the map.
+         * @param tunnel The tunnel
+         * @param added TRUE if it's a new entry, not a replacement
          */
-        private transient Object cached;
+        public void admit(final MethodCacher.Tunnel tunnel,
+            final boolean added) {
+            if (added) {
+                this.entries.incrementAndGet();
+            }
+            if (this.tracked) {
+                this.queue.offer(tunnel);
+                this.length.incrementAndGet();
+            }
+        }
 
         /**
-         * Public ctor.
-         * @param pnt ProceedingJoinPoint
-         * @param akey MethodCacher.Key
-         * @param aupdate Boolean
+         * Take the next candidate for eviction.
+         * @return The tunnel or NULL if the queue is empty
          */
-        Tunnel(final ProceedingJoinPoint pnt,
-            final MethodCacher.Key akey, final boolean aupdate) {
-            this.point = pnt;
-            this.key = akey;
-            this.asynchupdate = aupdate;
+        public MethodCacher.Tunnel poll() {
+            final MethodCacher.Tunnel tunnel = this.queue.poll();
+            if (tunnel != null) {
+                this.length.decrementAndGet();
+            }
+            return tunnel;
         }
 
-        @Override
-        public String toString() {
-            return Mnemos.toText(this.cached, true, false);
+        /**
+         * Register removal of an entry.
+         */
+        public void shrink() {
+            this.entries.decrementAndGet();
         }
 
         /**
-         * Public ctor.
-         * @return MethodCacher.Tunnel
+         * Amount of entries in cache.
+         * @return Amount
          */
-        public MethodCacher.Tunnel copy() {
-            return new MethodCacher.Tunnel(
-                this.point, this.key, this.asynchupdate
-            );
+        public int size() {
+            return this.entries.get();
         }
 
         /**
-         * Get a result through the tunnel.
-         * @return The result
-         * @throws Throwable If something goes wrong inside
-         * @checkstyle IllegalThrows (5 lines)
+         * Amount of tunnels in the queue.
+         * @return Amount
          */
-        @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
-        public synchronized Object through() throws Throwable {
-            if (!this.executed) {
-                final long start = System.currentTimeMillis();
-                this.cached = this.point.proceed();
-                final Method method = ((MethodSignature) this.point.getSignature())
-                    .getMethod();
-                final Cacheable annot = method.getAnnotation(Cacheable.class);
-                final String suffix;
-                if (annot.forever()) {
-                    this.lifetime = Long.MAX_VALUE;
-                    suffix = "valid forever";
-                } else if (annot.lifetime() == 0) {
-                    this.lifetime = 0L;
-                    suffix = "invalid immediately";
-                } else {
-                    final long msec = annot.unit().toMillis(
-                        (long) annot.lifetime()
-                    );
-                    this.lifetime = start + msec;
-                    suffix = Logger.format("valid for %[ms]s", msec);
-                }
-                final Class<?> type = method.getDeclaringClass();
-                if (LogHelper.enabled(this.key.getLevel(), type)) {
-                    LogHelper.log(
-                        this.key.getLevel(),
-                        type,
-                        "%s: %s cached in %[ms]s, %s",
-                        Mnemos.toText(
-                            method, this.point.getArgs(), true, false
-                        ),
-                        Mnemos.toText(this.cached, true, false),
-                        System.currentTimeMillis() - start,
-                        suffix
-                    );
-                }
-                this.executed = true;
-            }
-            return this.key.through(this.cached);
+        public int queued() {
+            return this.length.get();
         }
 
         /**
-         * Is it expired already?
-         * @return TRUE if expired
+         * Are there more entries than allowed?
+         * @return TRUE if so
          */
-        public boolean expired() {
-            return this.executed && this.lifetime < System.currentTimeMillis();
+        public boolean exceeded() {
+            return this.max > 0 && this.entries.get() > this.max
+                || this.heavy > 0L && this.bytes.get() > this.heavy;
         }
 
         /**
-         * Whether asynchronous update.
-         * @return TRUE if asynchronous update
+         * Weight of entries in cache.
+         * @return Bytes
          */
-        public boolean asyncUpdate() {
-            return this.asynchupdate;
+        public long weight() {
+            return this.bytes.get();
+        }
+
+        /**
+         * Register a change of the weight of entries.
+         * @param delta Bytes added or, if negative, taken out
+         */
+        public void weigh(final long delta) {
+            this.bytes.addAndGet(delta);
+        }
+
+        /**
+         * Drop tunnels that are no longer in the map, if the queue
+         * is twice as big as the amount of entries.
+         */
+        public void compact() {
+            final int size = this.entries.get();
+            if (this.length.get() > (size << 1) + 16) {
+                this.queue.removeIf(
+                    tunnel -> {
+                        final boolean dead = tunnel.retired;
+                        if (dead) {
+                            this.length.decrementAndGet();
+                        }
+                        return dead;
+                    }
+                );
+            }
         }
     }
 
     /**
      * Key of a callable target.
      *
+     * <p>The hash code is calculated once, in the constructor, from the
+     * method, the identity of the target and the deep hash of the
+     * arguments, so that keys of the same method with different
+     * arguments are spread across the buckets of the map. The target is
+     * compared by identity, its own {@code hashCode()} and
+     * {@code equals()} are never called, since they may be cacheable
+     * themselves. The target is referenced weakly, the key doesn't
+     * prevent it from being collected by GC.
+     *
      * @since 0.8
      */
     private static final class Key {
@@ -446,6 +1965,11 @@ public final class MethodCacher {
          */
         private final transient AtomicInteger accessed;
 
+        /**
+         * Metadata of the method.
+         */
+        private final transient MethodCacher.Site site;
+
         /**
          * Method.
          */
@@ -454,7 +1978,7 @@ public final class MethodCacher {
         /**
          * Object callable (or class, if static method).
          */
-        private final transient Object target;
+        private final transient MethodCacher.Target target;
 
         /**
          * Arguments.
@@ -466,22 +1990,29 @@ public final class MethodCacher {
          */
         private final int level;
 
+        /**
+         * Pre-calculated hash code.
+         */
+        private final transient int hash;
+
         /**
          * Public ctor.
-         * @param point Joint point
+         * @param meta Metadata of the method
+         * @param tgt Object callable (or class, if static method)
+         * @param args Arguments
          */
-        @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
-        Key(final JoinPoint point) {
-            this.start = System.currentTimeMillis();
+        Key(final MethodCacher.Site meta, final MethodCacher.Target tgt,
+            final Object... args) {
+            this.start = meta.region.clock.millis();
             this.accessed = new AtomicInteger();
-            this.method = ((MethodSignature) point.getSignature()).getMethod();
-            this.target = MethodCacher.Key.targetize(point);
-            this.arguments = point.getArgs();
-            if (this.method.isAnnotationPresent(Loggable.class)) {
-                this.level = this.method.getAnnotation(Loggable.class).value();
-            } else {
-                this.level = Loggable.DEBUG;
-            }
+            this.site = meta;
+            this.method = meta.method;
+            this.target = tgt;
+            this.arguments = args;
+            this.level = meta.level;
+            this.hash = MethodCacher.Key.hash(
+                this.method, tgt.hashCode(), this.arguments
+            );
         }
 
         @Override
@@ -491,7 +2022,7 @@ public final class MethodCacher {
 
         @Override
         public int hashCode() {
-            return this.method.hashCode();
+            return this.hash;
         }
 
         @Override
@@ -501,9 +2032,12 @@ public final class MethodCacher {
                 equals = true;
             } else if (obj instanceof MethodCacher.Key) {
                 final MethodCacher.Key key = (MethodCacher.Key) obj;
-                equals = key.method.equals(this.method)
-                    && this.target.equals(key.target)
+                equals = key.hash == this.hash
+                    && key.target.equals(this.target)
+                    && key.method.equals(this.method)
                     && Arrays.deepEquals(key.arguments, this.arguments);
+            } else if (obj instanceof MethodCacher.Probe) {
+                equals = obj.equals(this);
             } else {
                 equals = false;
             }
@@ -526,19 +2060,51 @@ public final class MethodCacher {
                     this,
                     Mnemos.toText(result, true, false),
                     hit,
-                    System.currentTimeMillis() - this.start
+                    this.site.region.clock.millis() - this.start
                 );
             }
             return result;
         }
 
         /**
-         * Is it related to the same target?
-         * @param point Proceeding point
-         * @return True if the target is the same
+         * Identifier of the call, in the shared store.
+         * @return Signature of the method and the arguments
+         */
+        public List<Object> id() {
+            final List<Object> id = new ArrayList<>(this.arguments.length + 1);
+            id.add(this.site.name);
+            id.addAll(Arrays.asList(this.arguments));
+            return id;
+        }
+
+        /**
+         * Does it match the given call?
+         * @param code Hash code of the call
+         * @param mtd Method
+         * @param tgt Object callable (or class, if static method)
+         * @param args Arguments
+         * @return TRUE if it matches
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        public boolean matches(final int code, final Method mtd,
+            final Object tgt, final Object... args) {
+            return code == this.hash
+                && tgt == this.target.get()
+                && mtd.equals(this.method)
+                && Arrays.deepEquals(args, this.arguments);
+        }
+
+        /**
+         * Calculate hash code of a key.
+         * @param method The method
+         * @param target Identity hash code of the target
+         * @param args The arguments, hashed deeply
+         * @return Hash code
          */
-        public boolean sameTarget(final JoinPoint point) {
-            return MethodCacher.Key.targetize(point).equals(this.target);
+        private static int hash(final Method method, final int target,
+            final Object... args) {
+            return 31 * (31 * method.hashCode() + target)
+                + Arrays.deepHashCode(args);
         }
 
         /**
@@ -548,7 +2114,7 @@ public final class MethodCacher {
          */
         private static Object targetize(final JoinPoint point) {
             final Object tgt;
-            final Method method = ((MethodSignature) point.getSignature()).getMethod();
+            final Method method = Metadata.of(point).method();
             if (Modifier.isStatic(method.getModifiers())) {
                 tgt = method.getDeclaringClass();
             } else {
@@ -566,4 +2132,384 @@ public final class MethodCacher {
         }
     }
 
+    /**
+     * Exception thrown by a cached method and kept in cache instead of
+     * its result, see {@link Cacheable#cacheExceptions()}.
+     *
+     * @since 1.0
+     */
+    private static final class Failure {
+        /**
+         * The exception.
+         */
+        private final transient Throwable error;
+
+        /**
+         * Ctor.
+         * @param err The exception
+         */
+        Failure(final Throwable err) {
+            this.error = err;
+        }
+
+        @Override
+        public String toString() {
+            return Mnemos.toText(this.error);
+        }
+    }
+
+    /**
+     * Metadata of a cached method, collected once per join point, so
+     * that a call doesn't use reflection to find its annotations
+     * and flush triggers.
+     *
+     * @since 1.0
+     */
+    private static final class Site {
+        /**
+         * Method.
+         */
+        private final transient Method method;
+
+        /**
+         * Its signature, as saved in the snapshot.
+         */
+        private final transient String name;
+
+        /**
+         * Annotation of the method.
+         */
+        private final transient Cacheable annot;
+
+        /**
+         * Log level.
+         */
+        private final transient int level;
+
+        /**
+         * Is the method static?
+         */
+        private final transient boolean statik;
+
+        /**
+         * Triggers to call before, see {@link Cacheable#before()}.
+         */
+        private final transient MethodHandle[] before;
+
+        /**
+         * Triggers to call after, see {@link Cacheable#after()}.
+         */
+        private final transient MethodHandle[] after;
+
+        /**
+         * Region of the method.
+         */
+        private final transient MethodCacher.Region region;
+
+        /**
+         * Statistics of the method.
+         */
+        private final transient CacheStats stats;
+
+        /**
+         * Shared store of its values, NULL if not used.
+         */
+        private final transient SharedTier tier;
+
+        /**
+         * Extractor of the key, NULL if not set.
+         */
+        private final transient Cacheable.Extractor extractor;
+
+        /**
+         * Positions of arguments in the key, NULL if all of them are.
+         */
+        private final transient int[] positions;
+
+        /**
+         * Weigher of values, NULL if they are not weighed.
+         */
+        private final transient Cacheable.Weigher weigher;
+
+        /**
+         * Ctor.
+         * @param mtd The method
+         * @param rgn Region of the method
+         * @param sts Statistics of the method
+         * @param shared Shared store, NULL if not configured
+         * @throws ReflectiveOperationException If triggers are broken
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Site(final Method mtd, final MethodCacher.Region rgn,
+            final CacheStats sts, final SharedTier shared)
+            throws ReflectiveOperationException {
+            this.method = mtd;
+            this.name = mtd.toString();
+            this.annot = mtd.getAnnotation(Cacheable.class);
+            if (mtd.isAnnotationPresent(Loggable.class)) {
+                this.level = mtd.getAnnotation(Loggable.class).value();
+            } else {
+                this.level = Loggable.DEBUG;
+            }
+            this.statik = Modifier.isStatic(mtd.getModifiers());
+            this.before = MethodCacher.Site.triggers(
+                this.annot.before(), "flushBefore"
+            );
+            this.after = MethodCacher.Site.triggers(
+                this.annot.after(), "flushAfter"
+            );
+            this.region = rgn;
+            this.stats = sts;
+            if (this.annot.shared() && this.statik) {
+                this.tier = shared;
+            } else {
+                this.tier = null;
+            }
+            if (this.annot.key().equals(Cacheable.Extractor.class)) {
+                this.extractor = null;
+            } else {
+                this.extractor = this.annot.key().getConstructor()
+                    .newInstance();
+            }
+            this.positions = MethodCacher.Site.positions(mtd);
+            if (!rgn.weighed) {
+                this.weigher = null;
+            } else if (this.annot.weigher().equals(Cacheable.Weigher.class)) {
+                this.weigher = new Estimator();
+            } else {
+                this.weigher = this.annot.weigher().getConstructor()
+                    .newInstance();
+            }
+        }
+
+        /**
+         * Arguments that make the key.
+         * @param args All arguments of the call
+         * @return Arguments of the key
+         */
+        public Object[] arguments(final Object... args) {
+            final Object[] key;
+            if (this.extractor != null) {
+                key = this.extractor.extract(args);
+            } else if (this.positions == null) {
+                key = args;
+            } else {
+                key = new Object[this.positions.length];
+                for (int idx = 0; idx < key.length; ++idx) {
+                    key[idx] = args[this.positions[idx]];
+                }
+            }
+            return key;
+        }
+
+        /**
+         * Object callable (or class, if static method).
+         * @param point Join point
+         * @return The target
+         */
+        public Object target(final JoinPoint point) {
+            final Object tgt;
+            if (this.statik) {
+                tgt = this.method.getDeclaringClass();
+            } else {
+                tgt = point.getTarget();
+            }
+            return tgt;
+        }
+
+        /**
+         * Find positions of arguments that make the key.
+         * @param mtd The method
+         * @return Positions or NULL if all arguments make the key
+         */
+        private static int[] positions(final Method mtd) {
+            final Annotation[][] annotations = mtd.getParameterAnnotations();
+            final List<Integer> included = new ArrayList<>(annotations.length);
+            final List<Integer> kept = new ArrayList<>(annotations.length);
+            for (int idx = 0; idx < annotations.length; ++idx) {
+                boolean excluded = false;
+                for (final Annotation annotation : annotations[idx]) {
+                    if (annotation instanceof Cacheable.Include) {
+                        included.add(idx);
+                    }
+                    if (annotation instanceof Cacheable.Exclude) {
+                        excluded = true;
+                    }
+                }
+                if (!excluded) {
+                    kept.add(idx);
+                }
+            }
+            final List<Integer> chosen;
+            if (included.isEmpty()) {
+                chosen = kept;
+            } else {
+                chosen = included;
+            }
+            int[] result = null;
+            if (chosen.size() < annotations.length) {
+                result = new int[chosen.size()];
+                for (int idx = 0; idx < result.length; ++idx) {
+                    result[idx] = chosen.get(idx);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Find static trigger methods.
+         * @param types Classes with the triggers
+         * @param name Name of the trigger method
+         * @return Handles of the triggers, returning boolean
+         * @throws ReflectiveOperationException If some trigger is broken
+         */
+        private static MethodHandle[] triggers(final Class<?>[] types,
+            final String name) throws ReflectiveOperationException {
+            final MethodHandle[] handles = new MethodHandle[types.length];
+            for (int idx = 0; idx < types.length; ++idx) {
+                handles[idx] = MethodHandles.publicLookup()
+                    .unreflect(types[idx].getMethod(name))
+                    .asType(MethodType.methodType(boolean.class));
+            }
+            return handles;
+        }
+    }
+
+    /**
+     * Mutable key of a call, used only to look up the map, without
+     * making a new {@link MethodCacher.Key} when the value is already
+     * in cache.
+     *
+     * <p>It is not thread-safe and each thread has its own instance. The
+     * instance is busy while it looks up the map, since {@code hashCode()}
+     * and {@code equals()} of arguments may be cacheable too and get back
+     * to the same thread: then a new probe is used instead.
+     *
+     * @since 1.0
+     */
+    private static final class Probe {
+        /**
+         * Is it looking up the map now?
+         */
+        private transient boolean busy;
+
+        /**
+         * Method.
+         */
+        private transient Method method;
+
+        /**
+         * Object callable (or class, if static method).
+         */
+        private transient Object target;
+
+        /**
+         * Arguments.
+         */
+        private transient Object[] arguments;
+
+        /**
+         * Hash code, the same as the one of the key.
+         */
+        private transient int hash;
+
+        /**
+         * Point it to the call.
+         * @param mtd Method
+         * @param tgt Object callable (or class, if static method)
+         * @param args Arguments
+         * @return This probe
+         */
+        public MethodCacher.Probe of(final Method mtd, final Object tgt,
+            final Object... args) {
+            this.busy = true;
+            this.method = mtd;
+            this.target = tgt;
+            this.arguments = args;
+            this.hash = MethodCacher.Key.hash(
+                mtd, System.identityHashCode(tgt), args
+            );
+            return this;
+        }
+
+        /**
+         * Forget the call, so that its objects may be collected.
+         */
+        public void clear() {
+            this.method = null;
+            this.target = null;
+            this.arguments = null;
+            this.busy = false;
+        }
+
+        /**
+         * Is it looking up the map now?
+         * @return TRUE if busy
+         */
+        public boolean busy() {
+            return this.busy;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof MethodCacher.Key
+                && ((MethodCacher.Key) obj).matches(
+                    this.hash, this.method, this.target, this.arguments
+                );
+        }
+    }
+
+    /**
+     * Weak reference to the target of cached calls.
+     *
+     * <p>It is compared by identity of the target, since its own
+     * {@code equals()} and {@code hashCode()} may be cacheable too. When
+     * the target is collected by GC, the reference is equal only to
+     * itself.
+     *
+     * @since 1.0
+     */
+    private static final class Target extends WeakReference<Object> {
+        /**
+         * Identity hash code of the target.
+         */
+        private final transient int hash;
+
+        /**
+         * Ctor.
+         * @param obj Object callable (or class, if static method)
+         * @param queue Queue to put it into, when the target is collected,
+         *  NULL if not needed
+         */
+        Target(final Object obj, final ReferenceQueue<Object> queue) {
+            super(obj, queue);
+            this.hash = System.identityHashCode(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            final boolean equals;
+            if (this == obj) {
+                equals = true;
+            } else if (obj instanceof MethodCacher.Target) {
+                final Object mine = this.get();
+                equals = mine != null
+                    && mine == ((MethodCacher.Target) obj).get();
+            } else {
+                equals = false;
+            }
+            return equals;
+        }
+    }
+
 }
@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+/**
+ * Statistics of one {@link com.jcabi.aspects.Cacheable} method, in JMX.
+ *
+ * <p>{@link MethodCacher} registers one MBean of this type for each cached
+ * method, as {@code com.jcabi.aspects:type=MethodCacher,name=<method>},
+ * when the method is called for the first time.
+ *
+ * @since 1.0
+ */
+public interface MethodCacherMBean {
+
+    /**
+     * Signature of the method.
+     * @return Class, name and types of arguments
+     */
+    String getMethod();
+
+    /**
+     * How many calls were served from cache.
+     * @return Amount of calls
+     */
+    long getHits();
+
+    /**
+     * How many calls didn't find their values in cache.
+     * @return Amount of calls
+     */
+    long getMisses();
+
+    /**
+     * Share of calls served from cache.
+     * @return From 0.0 to 1.0, or 0.0 if there were no calls
+     */
+    double getHitRate();
+
+    /**
+     * How many times the method was actually called, including
+     * asynchronous updates.
+     * @return Amount of calls
+     */
+    long getLoads();
+
+    /**
+     * Total time spent in the method itself.
+     * @return Milliseconds
+     */
+    long getLoadTime();
+
+    /**
+     * Average time of one call of the method itself.
+     * @return Milliseconds, or 0.0 if it was never called
+     */
+    double getAverageLoadTime();
+
+    /**
+     * How many values were evicted, because of limits of size.
+     * @return Amount of values
+     */
+    long getEvictions();
+
+    /**
+     * How many values were removed, because they expired.
+     * @return Amount of values
+     */
+    long getExpirations();
+
+    /**
+     * How many values were updated asynchronously.
+     * @return Amount of values
+     */
+    long getRefreshes();
+
+    /**
+     * How many values are in cache now.
+     * @return Amount of values
+     */
+    long getSize();
+
+    /**
+     * How much memory values in cache take now, as estimated by the
+     * weigher of the method, zero if they are not weighed.
+     * @return Weight in bytes
+     */
+    long getWeight();
+
+    /**
+     * Reset all counters, except the size and the weight.
+     */
+    void reset();
+}
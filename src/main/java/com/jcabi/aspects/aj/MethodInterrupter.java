@@ -16,7 +16,6 @@ import java.util.concurrent.TimeUnit;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.MethodSignature;
 
 /**
  * Interrupts long-running methods.
@@ -135,9 +134,7 @@ public final class MethodInterrupter {
             this.thread = Thread.currentThread();
             this.start = System.currentTimeMillis();
             this.point = pnt;
-            final Method method = ((MethodSignature) pnt.getSignature())
-                .getMethod();
-            final Timeable annt = method.getAnnotation(Timeable.class);
+            final Timeable annt = Metadata.of(pnt).annotation(Timeable.class);
             this.deadline = this.start + annt.unit().toMillis(
                 (long) annt.limit()
             );
@@ -172,8 +169,7 @@ public final class MethodInterrupter {
             final boolean dead;
             if (this.thread.isAlive()) {
                 this.thread.interrupt();
-                final Method method = ((MethodSignature) this.point.getSignature())
-                    .getMethod();
+                final Method method = Metadata.of(this.point).method();
                 if (Logger.isWarnEnabled(method.getDeclaringClass())) {
                     Logger.warn(
                         method.getDeclaringClass(),
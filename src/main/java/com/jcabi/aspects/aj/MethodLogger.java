@@ -9,16 +9,17 @@ import com.jcabi.log.Logger;
 import com.jcabi.log.VerboseRunnable;
 import java.lang.reflect.Method;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.Executors;
-import java.util.concurrent.FutureTask;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.MethodSignature;
 
 /**
  * Logs method calls.
@@ -46,6 +47,16 @@ public final class MethodLogger {
      */
     private final transient Set<MethodLogger.Marker> running;
 
+    /**
+     * Ring buffer of lines logged asynchronously.
+     */
+    private final transient LogRing ring;
+
+    /**
+     * Enabled levels of loggers, refreshed by the monitor.
+     */
+    private final transient LogLevels levels;
+
     /**
      * Public ctor.
      */
@@ -57,6 +68,12 @@ public final class MethodLogger {
     )
     public MethodLogger() {
         this.running = new ConcurrentSkipListSet<>();
+        this.levels = new LogLevels();
+        this.ring = new LogRing(
+            Integer.getInteger("jcabi.loggable.buffer", 1024),
+            "block".equals(System.getProperty("jcabi.loggable.overflow")),
+            MethodLogger::render
+        );
         final ScheduledExecutorService monitor =
             Executors.newSingleThreadScheduledExecutor(
                 new NamedThreads(
@@ -65,22 +82,15 @@ public final class MethodLogger {
                 )
             );
         monitor.scheduleWithFixedDelay(
-            new FutureTask<Void>(
-                new VerboseRunnable(
-                    () -> {
-                        for (final MethodLogger.Marker marker
-                            : this.running) {
-                            marker.monitor();
-                        }
+            new VerboseRunnable(
+                () -> {
+                    this.levels.refresh();
+                    for (final MethodLogger.Marker marker : this.running) {
+                        marker.monitor();
                     }
-                ), null
-            ) {
-                @Override
-                protected void done() {
-                    Logger.debug(this, "Logging monitor thread interrupted");
-                    monitor.shutdown();
-                }
-            },
+                },
+                true
+            ),
             1L, 1L, TimeUnit.SECONDS
         );
     }
@@ -106,17 +116,12 @@ public final class MethodLogger {
             + " && !cflow(call(com.jcabi.aspects.aj.MethodLogger.new()))"
         )
     public Object wrapClass(final ProceedingJoinPoint point) throws Throwable {
-        final Method method =
-            ((MethodSignature) point.getSignature()).getMethod();
+        final MethodLogger.Site site = MethodLogger.site(point);
         final Object output;
-        if (method.isAnnotationPresent(Loggable.class)) {
+        if (site.own) {
             output = point.proceed();
         } else {
-            output = this.wrap(
-                point,
-                method,
-                method.getDeclaringClass().getAnnotation(Loggable.class)
-            );
+            output = this.wrap(point, site);
         }
         return output;
     }
@@ -139,16 +144,13 @@ public final class MethodLogger {
         )
     @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public Object wrapMethod(final ProceedingJoinPoint point) throws Throwable {
-        final Method method =
-            ((MethodSignature) point.getSignature()).getMethod();
-        return this.wrap(point, method, method.getAnnotation(Loggable.class));
+        return this.wrap(point, MethodLogger.site(point));
     }
 
     /**
      * Catch exception and re-call the method.
      * @param point Joint point
-     * @param method The method
-     * @param annotation The annotation
+     * @param site Metadata of the method
      * @return The result of call
      * @throws Throwable If something goes wrong inside
      * @checkstyle ExecutableStatementCountCheck (100 lines)
@@ -158,8 +160,8 @@ public final class MethodLogger {
         "PMD.AvoidThreadGroup",
         "PMD.GuardLogStatement"
     })
-    private Object wrap(final ProceedingJoinPoint point, final Method method,
-        final Loggable annotation) throws Throwable {
+    private Object wrap(final ProceedingJoinPoint point,
+        final MethodLogger.Site site) throws Throwable {
         if (Thread.interrupted()) {
             throw new IllegalStateException(
                 String.format(
@@ -170,71 +172,42 @@ public final class MethodLogger {
             );
         }
         final long start = System.nanoTime();
+        final Loggable annotation = site.annotation;
         final MethodLogger.Marker marker =
             new MethodLogger.Marker(point, annotation);
         this.running.add(marker);
-        int level = annotation.value();
+        final int level = annotation.value();
         try {
-            final Object logger = MethodLogger.logger(method, annotation.name());
+            final Object logger = site.logger;
             if (annotation.prepend()) {
-                LogHelper.log(
-                    level,
-                    logger,
-                    new StringBuilder(
-                        Mnemos.toText(
-                            point,
-                            annotation.trim(),
-                            annotation.skipArgs(),
-                            annotation.logThis()
-                        )
-                    ).append(": entered").toString()
+                this.emit(
+                    level, logger, LogRing.Kind.ENTERED,
+                    point, annotation, null, 0L
                 );
             }
             final Object result = point.proceed();
             final long nano = System.nanoTime() - start;
-            if (LogHelper.enabled(level, logger)
-                || MethodLogger.over(annotation, nano)) {
-                if (MethodLogger.over(annotation, nano)) {
-                    level = Loggable.WARN;
-                }
-                LogHelper.log(
-                    level, logger,
-                    MethodLogger.message(point, method, annotation, result, nano)
-                );
+            final int outlevel;
+            if (MethodLogger.over(annotation, nano)) {
+                outlevel = Loggable.WARN;
+            } else {
+                outlevel = level;
             }
+            this.emit(
+                outlevel, logger, LogRing.Kind.RETURNED,
+                point, annotation, result, nano
+            );
             return result;
         // @checkstyle IllegalCatch (1 line)
         } catch (final Throwable ex) {
-            if (!MethodLogger.contains(annotation.ignore(), ex)
-                && !ex.getClass().isAnnotationPresent(Loggable.Quiet.class)) {
-                final StackTraceElement[] traces = ex.getStackTrace();
-                final String origin;
-                if (traces.length > 0) {
-                    final StackTraceElement trace = traces[0];
-                    origin = MethodLogger.oneText(trace);
-                } else {
-                    origin = "somewhere";
-                }
-                final int exlevel = annotation.logException() >= 0
-                    ? annotation.logException() : level;
-                if (LogHelper.enabled(exlevel, method.getDeclaringClass())) {
-                    LogHelper.log(
-                        exlevel,
-                        method.getDeclaringClass(),
-                        Logger.format(
-                            "%s: thrown %s out of %s in %[nano]s",
-                            Mnemos.toText(
-                                point,
-                                annotation.trim(),
-                                annotation.skipArgs(),
-                                annotation.logThis()
-                            ),
-                            Mnemos.toText(ex),
-                            origin,
-                            System.nanoTime() - start
-                        )
-                    );
-                }
+            final int exlevel = annotation.logException() >= 0
+                ? annotation.logException() : level;
+            if (this.levels.enabled(exlevel, site.type)
+                && !site.ignores(ex.getClass())) {
+                this.emit(
+                    exlevel, site.type, LogRing.Kind.THROWN,
+                    point, annotation, ex, System.nanoTime() - start
+                );
             }
             throw ex;
         } finally {
@@ -242,6 +215,87 @@ public final class MethodLogger {
         }
     }
 
+    /**
+     * Log one line, right now or through the ring buffer, if the level
+     * is enabled; nothing is rendered otherwise.
+     * @param level Level of logging
+     * @param logger The logger
+     * @param kind What happened
+     * @param point Joint point
+     * @param annotation The annotation
+     * @param value Result or exception, NULL if none
+     * @param nano Duration of the call, in nanoseconds
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    private void emit(final int level, final Object logger,
+        final LogRing.Kind kind, final ProceedingJoinPoint point,
+        final Loggable annotation, final Object value, final long nano) {
+        if (this.levels.enabled(level, logger)) {
+            if (annotation.async()) {
+                this.ring.publish(
+                    kind, level, logger, point, annotation, value, nano
+                );
+            } else {
+                LogHelper.log(
+                    level, logger,
+                    MethodLogger.render(kind, point, annotation, value, nano)
+                );
+            }
+        }
+    }
+
+    /**
+     * Render a log line.
+     * @param kind What happened
+     * @param point Joint point
+     * @param annotation The annotation
+     * @param value Result or exception, NULL if none
+     * @param nano Duration of the call, in nanoseconds
+     * @return The line
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static String render(final LogRing.Kind kind,
+        final ProceedingJoinPoint point, final Loggable annotation,
+        final Object value, final long nano) {
+        final String text;
+        if (kind == LogRing.Kind.ENTERED) {
+            text = new StringBuilder(
+                Mnemos.toText(
+                    point,
+                    annotation.trim(),
+                    annotation.skipArgs(),
+                    annotation.logThis()
+                )
+            ).append(": entered").toString();
+        } else if (kind == LogRing.Kind.RETURNED) {
+            text = MethodLogger.message(
+                point, MethodLogger.site(point), annotation, value, nano
+            );
+        } else {
+            final Throwable error = (Throwable) value;
+            final StackTraceElement[] traces = error.getStackTrace();
+            final String origin;
+            if (traces.length > 0) {
+                origin = MethodLogger.oneText(traces[0]);
+            } else {
+                origin = "somewhere";
+            }
+            text = Logger.format(
+                "%s: thrown %s out of %s in %[nano]s",
+                Mnemos.toText(
+                    point,
+                    annotation.trim(),
+                    annotation.skipArgs(),
+                    annotation.logThis()
+                ),
+                Mnemos.toText(error),
+                origin,
+                nano
+            );
+        }
+        return text;
+    }
+
     /**
      * Has time for method execution passed.
      * @param annotation Loggable annotation.
@@ -254,18 +308,30 @@ public final class MethodLogger {
         );
     }
 
+    /**
+     * Metadata of the method, for logging.
+     * @param point Joint point
+     * @return The metadata
+     */
+    private static MethodLogger.Site site(final JoinPoint point) {
+        return Metadata.of(point).value(
+            MethodLogger.Site.class, MethodLogger.Site::new
+        );
+    }
+
     /**
      * Prepared message for log.
      * @param point JointPoint to use.
-     * @param method Method for which to log.
+     * @param site Metadata of the method.
      * @param annotation Loggable annotation.
      * @param result Method result.
      * @param nano Method execution time.
      * @return Log message.
      * @checkstyle ParameterNumberCheck (3 lines)
      */
-    private static String message(final ProceedingJoinPoint point, final Method method,
-        final Loggable annotation, final Object result, final long nano) {
+    private static String message(final ProceedingJoinPoint point,
+        final MethodLogger.Site site, final Loggable annotation,
+        final Object result, final long nano) {
         final StringBuilder msg = new StringBuilder(0);
         msg.append(
             Mnemos.toText(
@@ -275,7 +341,7 @@ public final class MethodLogger {
                 annotation.logThis()
             )
         ).append(':');
-        if (!method.getReturnType().equals(Void.TYPE)) {
+        if (!site.procedure) {
             msg.append(' ').append(
                 Mnemos.toText(
                     result,
@@ -284,14 +350,7 @@ public final class MethodLogger {
                 )
             );
         }
-        msg.append(
-            Logger.format(
-                String.format(
-                    " in %%[nano].%ds", annotation.precision()
-                ),
-                nano
-            )
-        );
+        msg.append(Logger.format(site.duration, nano));
         if (MethodLogger.over(annotation, nano)) {
             msg.append(" (too slow!)");
         }
@@ -317,14 +376,14 @@ public final class MethodLogger {
     /**
      * Checks whether array of types contains given type.
      * @param array Array of them
-     * @param exp The exception to find
+     * @param exp Type of the exception to find
      * @return TRUE if it's there
      */
     private static boolean contains(final Class<? extends Throwable>[] array,
-        final Throwable exp) {
+        final Class<?> exp) {
         boolean contains = false;
         for (final Class<? extends Throwable> type : array) {
-            if (MethodLogger.instanceOf(exp.getClass(), type)) {
+            if (MethodLogger.instanceOf(exp, type)) {
                 contains = true;
                 break;
             }
@@ -384,6 +443,82 @@ public final class MethodLogger {
         );
     }
 
+    /**
+     * Metadata of a logged method, made once.
+     * @since 1.0
+     */
+    private static final class Site {
+
+        /**
+         * The annotation of the method or of its class.
+         */
+        private final transient Loggable annotation;
+
+        /**
+         * Is the method annotated itself?
+         */
+        private final transient boolean own;
+
+        /**
+         * The logger.
+         */
+        private final transient Object logger;
+
+        /**
+         * Class of the method, where exceptions are logged.
+         */
+        private final transient Class<?> type;
+
+        /**
+         * Does the method return nothing?
+         */
+        private final transient boolean procedure;
+
+        /**
+         * Format of the duration.
+         */
+        private final transient String duration;
+
+        /**
+         * Types of exceptions met, and are they ignored or not.
+         */
+        private final transient ConcurrentMap<Class<?>, Boolean> ignored;
+
+        /**
+         * Ctor.
+         * @param method The method
+         */
+        Site(final Method method) {
+            this.own = method.isAnnotationPresent(Loggable.class);
+            if (this.own) {
+                this.annotation = method.getAnnotation(Loggable.class);
+            } else {
+                this.annotation = method.getDeclaringClass()
+                    .getAnnotation(Loggable.class);
+            }
+            this.type = method.getDeclaringClass();
+            this.logger = MethodLogger.logger(method, this.annotation.name());
+            this.procedure = method.getReturnType().equals(Void.TYPE);
+            this.duration = String.format(
+                " in %%[nano].%ds", this.annotation.precision()
+            );
+            this.ignored = new ConcurrentHashMap<>(0);
+        }
+
+        /**
+         * Is this type of exceptions ignored?
+         * @param exp Type of the exception
+         * @return TRUE if it must not be logged
+         */
+        public boolean ignores(final Class<?> exp) {
+            return this.ignored.computeIfAbsent(
+                exp,
+                key -> MethodLogger.contains(this.annotation.ignore(), key)
+                    || key.isAnnotationPresent(Loggable.Quiet.class)
+            );
+        }
+    }
+
     /**
      * Marker of a running method.
      * @since 0.0.0
@@ -441,7 +576,7 @@ public final class MethodLogger {
             );
             final int cycle = (int) ((age - threshold) / threshold);
             if (cycle > this.logged.get()) {
-                final Method method = ((MethodSignature) this.point.getSignature()).getMethod();
+                final Method method = Metadata.of(this.point).method();
                 Logger.warn(
                     method.getDeclaringClass(),
                     "%s: takes more than %[ms]s, %[ms]s already, thread=%s/%s",
@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Cacheable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cached value, encoded and kept in a direct (off-heap) byte buffer,
+ * used by {@link MethodCacher} for methods annotated with
+ * {@code @Cacheable(offHeap = true)}.
+ *
+ * <p>The buffer is released when the handle is garbage collected.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+final class OffHeap {
+
+    /**
+     * Codecs, by their types.
+     * @checkstyle LineLength (3 lines)
+     */
+    private static final ConcurrentMap<Class<?>, Cacheable.Codec> CODECS =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * The codec.
+     */
+    private final transient Cacheable.Codec codec;
+
+    /**
+     * Encoded value.
+     */
+    private final transient ByteBuffer buffer;
+
+    /**
+     * Ctor.
+     * @param cdc The codec
+     * @param value The value to encode
+     * @throws IOException If it can't be encoded
+     */
+    OffHeap(final Cacheable.Codec cdc, final Object value) throws IOException {
+        final ByteBuffer bytes = cdc.encode(value);
+        this.buffer = ByteBuffer.allocateDirect(bytes.remaining());
+        this.buffer.put(bytes);
+        this.buffer.flip();
+        this.codec = cdc;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%d bytes off-heap]", this.buffer.capacity());
+    }
+
+    /**
+     * Decode the value.
+     * @return New copy of the value
+     * @throws IOException If it can't be decoded
+     */
+    public Object value() throws IOException {
+        return this.codec.decode(this.buffer.asReadOnlyBuffer());
+    }
+
+    /**
+     * Get the codec of the given type.
+     * @param type Type of codec, {@link Cacheable.Codec} for the default one
+     * @return The codec
+     */
+    public static Cacheable.Codec codec(
+        final Class<? extends Cacheable.Codec> type) {
+        return OffHeap.CODECS.computeIfAbsent(type, OffHeap::create);
+    }
+
+    /**
+     * Make a codec.
+     * @param type Type of codec
+     * @return The codec
+     */
+    private static Cacheable.Codec create(final Class<?> type) {
+        final Cacheable.Codec codec;
+        if (type.equals(Cacheable.Codec.class)) {
+            codec = new SerialCodec();
+        } else {
+            try {
+                codec = (Cacheable.Codec) type.getConstructor().newInstance();
+            } catch (final ReflectiveOperationException ex) {
+                throw new IllegalStateException(
+                    String.format("Can't instantiate codec %s", type), ex
+                );
+            }
+        }
+        return codec;
+    }
+
+}
@@ -19,7 +19,6 @@ import java.util.concurrent.Future;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.MethodSignature;
 
 /**
  * Execute method in multiple threads.
@@ -48,8 +47,8 @@ public final class Parallelizer {
     @Around("execution(@com.jcabi.aspects.Parallel * * (..))")
     public Object wrap(final ProceedingJoinPoint point)
         throws Parallelizer.ParallelException {
-        final int total = ((MethodSignature) point.getSignature())
-            .getMethod().getAnnotation(Parallel.class).threads();
+        final int total = Metadata.of(point)
+            .annotation(Parallel.class).threads();
         final Collection<Callable<Throwable>> callables =
             new ArrayList<>(total);
         final CountDownLatch start = new CountDownLatch(1);
@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of background updates of cached values, used by
+ * {@link MethodCacher} for {@code @Cacheable(asyncUpdate = true)}.
+ *
+ * <p>An update of a key is not accepted while another update of the same
+ * key is still waiting or running. The queue of updates is bounded: when
+ * it is full, the update is executed by the thread that submits it,
+ * which slows down the callers instead of growing the queue.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class Refresher {
+
+    /**
+     * Keys with updates waiting or running.
+     */
+    private final transient Set<Object> pending;
+
+    /**
+     * Executor of updates.
+     */
+    private final transient ThreadPoolExecutor executor;
+
+    /**
+     * Ctor.
+     * @param threads Maximum amount of threads
+     * @param capacity Maximum amount of updates waiting in the queue
+     */
+    Refresher(final int threads, final int capacity) {
+        this.pending = ConcurrentHashMap.newKeySet();
+        this.executor = new ThreadPoolExecutor(
+            threads, threads, 1L, TimeUnit.MINUTES,
+            new ArrayBlockingQueue<>(capacity),
+            new NamedThreads(
+                "cacheable-update",
+                "async update of expired @Cacheable values"
+            ),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Submit an update, unless the key is already being updated.
+     * @param key The key
+     * @param task The update
+     * @return TRUE if accepted
+     */
+    public boolean submit(final Object key, final Runnable task) {
+        final boolean accepted = this.pending.add(key);
+        if (accepted) {
+            this.executor.execute(
+                () -> {
+                    try {
+                        task.run();
+                    } finally {
+                        this.pending.remove(key);
+                    }
+                }
+            );
+        }
+        return accepted;
+    }
+
+    /**
+     * Amount of updates waiting in the queue.
+     * @return Amount
+     */
+    public int depth() {
+        return this.executor.getQueue().size();
+    }
+
+    /**
+     * Amount of keys with updates waiting or running.
+     * @return Amount
+     */
+    public int pending() {
+        return this.pending.size();
+    }
+
+}
@@ -13,7 +13,6 @@ import java.util.Random;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.MethodSignature;
 
 /**
  * Repeat execution in case of exception.
@@ -43,9 +42,9 @@ public final class Repeater {
     @Around("execution(* * (..)) && @annotation(com.jcabi.aspects.RetryOnFailure)")
     @SuppressWarnings({ "PMD.AvoidCatchingThrowable", "PMD.GuardLogStatement" })
     public Object wrap(final ProceedingJoinPoint point) throws Throwable {
-        final Method method = ((MethodSignature) point.getSignature())
-            .getMethod();
-        final RetryOnFailure rof = method.getAnnotation(RetryOnFailure.class);
+        final Metadata meta = Metadata.of(point);
+        final Method method = meta.method();
+        final RetryOnFailure rof = meta.annotation(RetryOnFailure.class);
         int attempt = 0;
         final long begin = System.nanoTime();
         final Class<? extends Throwable>[] types = rof.types();
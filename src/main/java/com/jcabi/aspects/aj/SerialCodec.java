@@ -0,0 +1,46 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Cacheable;
+import com.jcabi.aspects.Immutable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Codec of cached values, which uses standard Java serialization.
+ *
+ * @since 1.0
+ */
+@Immutable
+final class SerialCodec implements Cacheable.Codec {
+
+    @Override
+    public ByteBuffer encode(final Object value) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(value);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    @Override
+    public Object decode(final ByteBuffer bytes) throws IOException {
+        final byte[] array = new byte[bytes.remaining()];
+        bytes.get(array);
+        try (ObjectInputStream input = new ObjectInputStream(
+            new ByteArrayInputStream(array)
+        )) {
+            return input.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Loggable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Second level of the cache of {@link MethodCacher}, in front of
+ * a {@link CacheStore}.
+ *
+ * <p>Entries to save are collected and written to the store in batches,
+ * by {@link #flush()}, which {@link MethodCacher} calls periodically. An
+ * entry which is not written yet is found without asking the store.
+ * Failures of the store are logged and otherwise ignored: the method is
+ * simply called.
+ *
+ * <p>Saves and removals are sent to the store one by one, each after
+ * the previous one is completed, so that a removal is never undone by
+ * a save which was still in progress. Entries stay in the batch until
+ * they are saved, unless they are replaced or removed meanwhile.
+ *
+ * <p>A miss in memory waits for the store, in the calling thread, but not
+ * longer than {@code jcabi.cacheable.store-wait} system property says
+ * (100 milliseconds by default); if the store is slower, the method is
+ * called, as if the value wasn't there.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+final class SharedTier {
+
+    /**
+     * Name of the system property with the class of the store.
+     */
+    private static final String STORE = "jcabi.cacheable.store";
+
+    /**
+     * Name of the system property with the time to wait for the store.
+     */
+    private static final String WAIT = "jcabi.cacheable.store-wait";
+
+    /**
+     * The store.
+     */
+    private final transient CacheStore store;
+
+    /**
+     * Entries waiting to be saved.
+     */
+    private final transient ConcurrentMap<List<Object>, CacheStore.Entry> pending;
+
+    /**
+     * How long to wait for the store, in milliseconds.
+     */
+    private final transient long patience;
+
+    /**
+     * The last change sent to the store, the next one waits for it.
+     */
+    private final transient AtomicReference<CompletableFuture<Void>> last;
+
+    /**
+     * Ctor.
+     * @param origin The store
+     */
+    SharedTier(final CacheStore origin) {
+        this(origin, Long.getLong(SharedTier.WAIT, 100L));
+    }
+
+    /**
+     * Ctor.
+     * @param origin The store
+     * @param wait How long to wait for the store, in milliseconds
+     */
+    SharedTier(final CacheStore origin, final long wait) {
+        this.store = origin;
+        this.pending = new ConcurrentHashMap<>(0);
+        this.patience = wait;
+        this.last = new AtomicReference<>(
+            CompletableFuture.completedFuture(null)
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.store.getClass().getName();
+    }
+
+    /**
+     * Make the tier of the store configured, if any.
+     * @return The tier or NULL if no store is configured
+     * @throws ReflectiveOperationException If the store can't be made
+     */
+    public static SharedTier configured() throws ReflectiveOperationException {
+        final String name = System.getProperty(SharedTier.STORE, "");
+        final CacheStore store;
+        if (name.isEmpty()) {
+            final Iterator<CacheStore> found =
+                ServiceLoader.load(CacheStore.class).iterator();
+            if (found.hasNext()) {
+                store = found.next();
+            } else {
+                store = null;
+            }
+        } else {
+            store = Class.forName(name).asSubclass(CacheStore.class)
+                .getConstructor().newInstance();
+        }
+        SharedTier tier = null;
+        if (store != null) {
+            tier = new SharedTier(store);
+        }
+        return tier;
+    }
+
+    /**
+     * Find an entry which is not expired yet.
+     * @param key The key
+     * @param now Current time, in milliseconds
+     * @return The entry or NULL if it's absent
+     */
+    public CacheStore.Entry find(final List<Object> key, final long now) {
+        CacheStore.Entry entry = this.pending.get(key);
+        if (entry == null) {
+            try {
+                entry = this.store.load(Collections.singletonList(key))
+                    .get(this.patience, TimeUnit.MILLISECONDS).get(key);
+            } catch (final ExecutionException | TimeoutException ex) {
+                this.failed("load", ex);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                this.failed("load", ex);
+            }
+        }
+        if (entry != null && entry.deadline() <= now) {
+            entry = null;
+        }
+        return entry;
+    }
+
+    /**
+     * Save an entry, in the next batch.
+     * @param key The key
+     * @param value The value
+     * @param deadline When it expires, in milliseconds since the epoch
+     */
+    public void put(final List<Object> key, final Object value,
+        final long deadline) {
+        this.pending.put(key, new CacheStore.Entry(value, deadline));
+    }
+
+    /**
+     * Remove an entry.
+     * @param key The key
+     */
+    public void remove(final List<Object> key) {
+        this.pending.remove(key);
+        this.serial(
+            "remove", () -> this.store.remove(Collections.singletonList(key))
+        );
+    }
+
+    /**
+     * Save all entries waiting in the batch.
+     *
+     * <p>They are taken out of the batch when they are saved, but only
+     * if they were not replaced meanwhile.
+     *
+     * @return When they are saved or failed to be saved
+     */
+    public CompletableFuture<Void> flush() {
+        final CompletableFuture<Void> done;
+        if (this.pending.isEmpty()) {
+            done = CompletableFuture.completedFuture(null);
+        } else {
+            final Map<List<Object>, CacheStore.Entry> batch =
+                new HashMap<>(this.pending);
+            done = this.serial("save", () -> this.store.save(batch))
+                .thenRun(() -> batch.forEach(this.pending::remove));
+        }
+        return done;
+    }
+
+    /**
+     * Send a change to the store, after the previous one is completed.
+     * @param operation Name of the operation, for logging
+     * @param change The change
+     * @return When it is completed, successfully or not
+     */
+    private CompletableFuture<Void> serial(final String operation,
+        final Supplier<CompletableFuture<Void>> change) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        this.last.getAndSet(done).whenComplete(
+            (before, failure) -> {
+                try {
+                    change.get().whenComplete(
+                        (none, error) -> {
+                            if (error != null) {
+                                this.failed(operation, error);
+                            }
+                            done.complete(null);
+                        }
+                    );
+                // @checkstyle IllegalCatch (1 line)
+                } catch (final RuntimeException ex) {
+                    this.failed(operation, ex);
+                    done.complete(null);
+                }
+            }
+        );
+        return done;
+    }
+
+    /**
+     * Log the failure of the operation.
+     * @param operation Name of the operation
+     * @param error The failure
+     */
+    private void failed(final String operation, final Throwable error) {
+        LogHelper.log(
+            Loggable.WARN,
+            SharedTier.class,
+            "Can't %s @Cacheable values in %s: %s",
+            operation,
+            this,
+            error.getMessage()
+        );
+    }
+}
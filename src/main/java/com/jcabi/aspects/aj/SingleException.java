@@ -12,7 +12,6 @@ import java.util.Objects;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.MethodSignature;
 
 /**
  * Throw single exception out of method.
@@ -43,12 +42,12 @@ public final class SingleException {
     @SuppressWarnings({"PMD.AvoidCatchingThrowable", "PMD.PreserveStackTrace"})
     // @checkstyle IllegalThrowsCheck (1 line)
     public Object wrap(final ProceedingJoinPoint point) throws Throwable {
-        final Method method =
-            ((MethodSignature) point.getSignature()).getMethod();
-        final UnitedThrow annot = method.getAnnotation(UnitedThrow.class);
-        final Class<? extends Throwable> clz = SingleException.clazz(
-            method,
-            annot
+        final Class<? extends Throwable> clz = Metadata.of(point).value(
+            SingleException.class,
+            method -> SingleException.clazz(
+                method,
+                method.getAnnotation(UnitedThrow.class)
+            )
         );
         try {
             return point.proceed();
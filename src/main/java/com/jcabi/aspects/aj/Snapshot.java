@@ -0,0 +1,444 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Loggable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Snapshot of cached values in a local file, used by {@link MethodCacher}
+ * to warm up the cache after a restart of the JVM.
+ *
+ * <p>The file is a sequence of entries, each one serialized separately and
+ * prefixed with its length, so that an entry which can't be serialized
+ * or deserialized (for example, because its class has changed since the
+ * previous run) is skipped, without damaging the others. The file is
+ * written and read through memory mapping. It is written to a temporary
+ * file first, which then replaces the original one atomically.
+ *
+ * <p>Since entries are deserialized when the file is loaded, it is not
+ * loaded at all if somebody else but the user of the JVM may write to it,
+ * and only classes that are explicitly allowed may be deserialized: the
+ * entry itself, boxed primitives, strings, numbers, dates and collections
+ * of the JDK, and all classes and packages listed in the constructor.
+ * A package is listed with a trailing dot, like {@code com.example.},
+ * and includes its subpackages.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 1.0
+ */
+final class Snapshot {
+
+    /**
+     * Classes and packages allowed by default.
+     */
+    private static final String[] ALLOWED = {
+        Snapshot.Entry.class.getName(),
+        Boolean.class.getName(),
+        Byte.class.getName(),
+        Character.class.getName(),
+        Short.class.getName(),
+        Integer.class.getName(),
+        Long.class.getName(),
+        Float.class.getName(),
+        Double.class.getName(),
+        Number.class.getName(),
+        String.class.getName(),
+        Enum.class.getName(),
+        Object.class.getName(),
+        "java.math.",
+        "java.time.",
+        "java.util.",
+    };
+
+    /**
+     * The file.
+     */
+    private final transient Path file;
+
+    /**
+     * Classes and packages that may be deserialized.
+     */
+    private final transient Collection<String> allowed;
+
+    /**
+     * Entries loaded and not yet restored.
+     */
+    private final transient ConcurrentMap<Snapshot.Id, Snapshot.Entry> loaded;
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param classes Classes and packages to deserialize, besides defaults
+     */
+    Snapshot(final Path path, final String... classes) {
+        this.file = path;
+        this.loaded = new ConcurrentHashMap<>(0);
+        this.allowed = new HashSet<>(Arrays.asList(Snapshot.ALLOWED));
+        for (final String name : classes) {
+            if (!name.trim().isEmpty()) {
+                this.allowed.add(name.trim());
+            }
+        }
+    }
+
+    /**
+     * Load all entries that are not expired yet, from the file.
+     *
+     * <p>Loading stops at the first record which is broken, for example
+     * if the file was truncated; the records before it are loaded.
+     *
+     * @param now Current time, in milliseconds
+     * @return How many entries were loaded
+     * @throws IOException If fails to read the file or can't trust it
+     */
+    public int load(final long now) throws IOException {
+        int total = 0;
+        if (Files.exists(this.file)) {
+            FileStore.owned(this.file);
+            try (FileChannel channel = FileChannel.open(
+                this.file, StandardOpenOption.READ
+            )) {
+                final MappedByteBuffer buffer = channel.map(
+                    FileChannel.MapMode.READ_ONLY, 0L, channel.size()
+                );
+                while (buffer.remaining() >= Integer.BYTES) {
+                    final int length = buffer.getInt();
+                    if (length <= 0 || length > buffer.remaining()) {
+                        LogHelper.log(
+                            Loggable.WARN,
+                            Snapshot.class,
+                            // @checkstyle LineLength (1 line)
+                            "Broken record of %d bytes in snapshot %s, the rest is skipped",
+                            length,
+                            this.file
+                        );
+                        break;
+                    }
+                    final byte[] bytes = new byte[length];
+                    buffer.get(bytes);
+                    final Snapshot.Entry entry = this.decode(bytes);
+                    if (entry != null && entry.deadline > now) {
+                        this.loaded.put(
+                            new Snapshot.Id(entry.method, entry.args), entry
+                        );
+                        ++total;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Take a loaded entry out of the snapshot, if it's there.
+     * @param method Method signature
+     * @param args Arguments of the call
+     * @param now Current time, in milliseconds
+     * @return The entry or NULL if it's absent or already expired
+     */
+    public Snapshot.Entry restore(final String method, final Object[] args,
+        final long now) {
+        Snapshot.Entry entry = null;
+        if (!this.loaded.isEmpty()) {
+            entry = this.loaded.remove(new Snapshot.Id(method, args));
+            if (entry != null && entry.deadline <= now) {
+                entry = null;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Save entries to the file, replacing its previous content.
+     * @param entries The entries to save
+     * @return How many entries were saved
+     * @throws IOException If fails to write the file
+     */
+    public int save(final Collection<Snapshot.Entry> entries)
+        throws IOException {
+        final List<byte[]> encoded = new ArrayList<>(entries.size());
+        long size = 0L;
+        for (final Snapshot.Entry entry : entries) {
+            final byte[] bytes = Snapshot.encode(entry);
+            if (bytes != null) {
+                encoded.add(bytes);
+                size += (long) Integer.BYTES + (long) bytes.length;
+            }
+        }
+        final Path dir = this.file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        final Path temp = Files.createTempFile(
+            dir, this.file.getFileName().toString(), ".tmp"
+        );
+        try {
+            try (FileChannel channel = FileChannel.open(
+                temp, StandardOpenOption.READ, StandardOpenOption.WRITE
+            )) {
+                final MappedByteBuffer buffer = channel.map(
+                    FileChannel.MapMode.READ_WRITE, 0L, size
+                );
+                for (final byte[] bytes : encoded) {
+                    buffer.putInt(bytes.length);
+                    buffer.put(bytes);
+                }
+                buffer.force();
+            }
+            Files.move(
+                temp, this.file,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return encoded.size();
+    }
+
+    /**
+     * Serialize one entry.
+     * @param entry The entry
+     * @return Bytes or NULL if it is not serializable
+     */
+    private static byte[] encode(final Snapshot.Entry entry) {
+        byte[] bytes;
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(stream)) {
+            output.writeObject(entry);
+            output.flush();
+            bytes = stream.toByteArray();
+        } catch (final IOException ex) {
+            LogHelper.log(
+                Loggable.DEBUG,
+                Snapshot.class,
+                "%s can't be saved to snapshot: %s",
+                entry,
+                ex.getMessage()
+            );
+            bytes = null;
+        }
+        return bytes;
+    }
+
+    /**
+     * Deserialize one entry, if all its classes are allowed.
+     * @param bytes Bytes
+     * @return The entry or NULL if it can't be deserialized
+     */
+    private Snapshot.Entry decode(final byte[] bytes) {
+        Snapshot.Entry entry;
+        try (ObjectInputStream input = new Snapshot.Input(
+            new ByteArrayInputStream(bytes), this.allowed
+        )) {
+            entry = (Snapshot.Entry) input.readObject();
+        } catch (final IOException | ClassNotFoundException
+            | ClassCastException ex) {
+            LogHelper.log(
+                Loggable.DEBUG,
+                Snapshot.class,
+                "Entry of %d bytes can't be loaded from snapshot: %s",
+                bytes.length,
+                ex.getMessage()
+            );
+            entry = null;
+        }
+        return entry;
+    }
+
+    /**
+     * Cached value of a method call.
+     *
+     * @since 1.0
+     */
+    static final class Entry implements Serializable {
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 0x7a3e51c20b94d1f6L;
+
+        /**
+         * Method signature.
+         */
+        private final String method;
+
+        /**
+         * Arguments.
+         */
+        private final Object[] args;
+
+        /**
+         * The value.
+         */
+        private final Object value;
+
+        /**
+         * When it expires, in milliseconds since the epoch.
+         */
+        private final long deadline;
+
+        /**
+         * Ctor.
+         * @param mtd Method signature
+         * @param arguments Arguments
+         * @param val The value
+         * @param when When it expires, in milliseconds since the epoch
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Entry(final String mtd, final Object[] arguments, final Object val,
+            final long when) {
+            this.method = mtd;
+            this.args = arguments.clone();
+            this.value = val;
+            this.deadline = when;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s%s", this.method, Arrays.toString(this.args));
+        }
+
+        /**
+         * The value.
+         * @return The value
+         */
+        public Object value() {
+            return this.value;
+        }
+
+        /**
+         * When it expires.
+         * @return Milliseconds since the epoch
+         */
+        public long deadline() {
+            return this.deadline;
+        }
+    }
+
+    /**
+     * Stream that deserializes only allowed classes and no proxies.
+     *
+     * @since 1.0
+     */
+    private static final class Input extends ObjectInputStream {
+        /**
+         * Classes and packages that may be deserialized.
+         */
+        private final transient Collection<String> allowed;
+
+        /**
+         * Ctor.
+         * @param stream The stream to read
+         * @param classes Classes and packages that may be deserialized
+         * @throws IOException If fails to read the header
+         */
+        Input(final InputStream stream, final Collection<String> classes)
+            throws IOException {
+            super(stream);
+            this.allowed = classes;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc)
+            throws IOException, ClassNotFoundException {
+            String name = desc.getName();
+            while (name.startsWith("[")) {
+                name = name.substring(1);
+            }
+            if (name.startsWith("L") && name.endsWith(";")) {
+                name = name.substring(1, name.length() - 1);
+            }
+            if (name.length() > 1 && !this.allows(name)) {
+                throw new InvalidClassException(
+                    desc.getName(), "is not allowed in snapshot"
+                );
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(final String[] interfaces)
+            throws IOException {
+            throw new InvalidClassException(
+                Arrays.toString(interfaces), "proxies are not allowed"
+            );
+        }
+
+        /**
+         * Is this class allowed?
+         * @param name Name of the class
+         * @return TRUE if it is listed or its package is
+         */
+        private boolean allows(final String name) {
+            boolean allows = this.allowed.contains(name);
+            for (int dot = name.lastIndexOf('.'); !allows && dot > 0;
+                dot = name.lastIndexOf('.', dot - 1)) {
+                allows = this.allowed.contains(name.substring(0, dot + 1));
+            }
+            return allows;
+        }
+    }
+
+    /**
+     * Identifier of an entry.
+     *
+     * @since 1.0
+     */
+    private static final class Id {
+        /**
+         * Method signature.
+         */
+        private final transient String method;
+
+        /**
+         * Arguments.
+         */
+        private final transient Object[] args;
+
+        /**
+         * Ctor.
+         * @param mtd Method signature
+         * @param arguments Arguments
+         */
+        Id(final String mtd, final Object... arguments) {
+            this.method = mtd;
+            this.args = arguments;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.method.hashCode() + Arrays.deepHashCode(this.args);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || obj instanceof Snapshot.Id
+                && ((Snapshot.Id) obj).method.equals(this.method)
+                && Arrays.deepEquals(((Snapshot.Id) obj).args, this.args);
+        }
+    }
+
+}
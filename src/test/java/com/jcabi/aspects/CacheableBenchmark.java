@@ -0,0 +1,111 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of {@link Cacheable} methods, when their values are already
+ * in cache.
+ *
+ * <p>It is not a unit test and it is not executed during the build. Run
+ * it from the IDE, or from the command line, with the test classpath:
+ * {@code java com.jcabi.aspects.CacheableBenchmark}. The "gc.alloc.rate.norm"
+ * line of the report shows how many bytes are allocated per call.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings({"PMD.ProhibitPublicStaticMethods", "PMD.ClassNotFinal"})
+public class CacheableBenchmark {
+
+    /**
+     * Run all benchmarks of this class.
+     * @param args Command line arguments, ignored
+     * @throws RunnerException If fails
+     */
+    public static void main(final String... args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(CacheableBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+
+    /**
+     * Hit of a method without arguments.
+     * @return The value
+     */
+    @Benchmark
+    public long hitsWithoutArguments() {
+        return this.constant();
+    }
+
+    /**
+     * Hit of a method with arguments.
+     * @return The value
+     */
+    @Benchmark
+    public String hitsWithArguments() {
+        return this.text(1, "one");
+    }
+
+    /**
+     * Hit of a static method.
+     * @return The value
+     */
+    @Benchmark
+    public long hitsStatic() {
+        return CacheableBenchmark.shared();
+    }
+
+    /**
+     * Calculate something, just once.
+     * @return The value
+     */
+    @Cacheable(forever = true)
+    public long constant() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Make some text, just once for each pair of arguments.
+     * @param number The number
+     * @param suffix The suffix
+     * @return The text
+     */
+    @Cacheable(forever = true)
+    public String text(final int number, final String suffix) {
+        return String.format("%d-%s", number, suffix);
+    }
+
+    /**
+     * Calculate something, just once for all instances.
+     * @return The value
+     */
+    @Cacheable(forever = true)
+    public static long shared() {
+        return System.nanoTime();
+    }
+}
@@ -4,17 +4,24 @@
  */
 package com.jcabi.aspects;
 
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.ObjectName;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -51,6 +58,20 @@ final class CacheableTest {
         );
     }
 
+    @Test
+    void flushesOnlyItsOwnTarget() {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final CacheableTest.Foo other = new CacheableTest.Foo(2L);
+        final CacheableTest.Foo first = foo.get();
+        final CacheableTest.Foo kept = other.get();
+        foo.flush();
+        MatcherAssert.assertThat(other.get(), Matchers.sameInstance(kept));
+        MatcherAssert.assertThat(
+            foo.get(),
+            Matchers.not(Matchers.sameInstance(first))
+        );
+    }
+
     @Test
     @Disabled
     void asyncUpdateCacheSimpleCall() throws Exception {
@@ -126,6 +147,245 @@ final class CacheableTest {
         }
     }
 
+    @Test
+    void cachesByDeepArgumentEquality() {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final long first = foo.sum(new int[] {1, 2});
+        MatcherAssert.assertThat(
+            foo.sum(new int[] {1, 2}),
+            Matchers.equalTo(first)
+        );
+        MatcherAssert.assertThat(
+            foo.sum(new int[] {2, 1}),
+            Matchers.not(Matchers.equalTo(first))
+        );
+        MatcherAssert.assertThat(
+            new CacheableTest.Foo(1L).sum(new int[] {1, 2}),
+            Matchers.not(Matchers.equalTo(first))
+        );
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenFull() {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final long first = foo.bounded(1);
+        final long second = foo.bounded(2);
+        MatcherAssert.assertThat(foo.bounded(2), Matchers.equalTo(second));
+        foo.bounded(3);
+        MatcherAssert.assertThat(foo.bounded(2), Matchers.equalTo(second));
+        MatcherAssert.assertThat(
+            foo.bounded(1),
+            Matchers.not(Matchers.equalTo(first))
+        );
+    }
+
+    @Test
+    void evictsWhenTooHeavy() {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final String first = foo.heavy(1);
+        final String third = foo.heavy(3);
+        foo.heavy(2);
+        MatcherAssert.assertThat(foo.heavy(3), Matchers.equalTo(third));
+        MatcherAssert.assertThat(
+            foo.heavy(1),
+            Matchers.not(Matchers.equalTo(first))
+        );
+    }
+
+    @Test
+    void keepsOtherMethodsWhenOneIsFull() {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final CacheableTest.Foo kept = foo.get();
+        for (int number = 0; number < 100; ++number) {
+            foo.bounded(number);
+        }
+        MatcherAssert.assertThat(foo.get(), Matchers.sameInstance(kept));
+    }
+
+    @Test
+    void expiresWithinSecond() throws Exception {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final long first = foo.brief();
+        MatcherAssert.assertThat(foo.brief(), Matchers.equalTo(first));
+        TimeUnit.MILLISECONDS.sleep(400L);
+        MatcherAssert.assertThat(
+            foo.brief(),
+            Matchers.not(Matchers.equalTo(first))
+        );
+    }
+
+    @Test
+    void keepsValuesOffHeap() {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final String first = foo.serialized();
+        final String second = foo.serialized();
+        MatcherAssert.assertThat(second, Matchers.equalTo(first));
+        MatcherAssert.assertThat(
+            second,
+            Matchers.not(Matchers.sameInstance(foo.serialized()))
+        );
+    }
+
+    @Test
+    void refreshesAheadOfExpiration() throws Exception {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final long first = foo.ahead();
+        MatcherAssert.assertThat(foo.ahead(), Matchers.equalTo(first));
+        TimeUnit.MILLISECONDS.sleep(700L);
+        foo.ahead();
+        TimeUnit.MILLISECONDS.sleep(100L);
+        MatcherAssert.assertThat(
+            foo.ahead(),
+            Matchers.not(Matchers.equalTo(first))
+        );
+    }
+
+    @Test
+    void cachesBySelectedArguments() {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final long first = foo.selected(1, new Object());
+        MatcherAssert.assertThat(
+            foo.selected(1, new Object()),
+            Matchers.equalTo(first)
+        );
+        MatcherAssert.assertThat(
+            foo.extracted("alpha:1"),
+            Matchers.equalTo(foo.extracted("alpha:2"))
+        );
+        MatcherAssert.assertThat(
+            foo.extracted("alpha:1"),
+            Matchers.not(Matchers.equalTo(foo.extracted("beta:1")))
+        );
+    }
+
+    @Test
+    void letsTargetsBeCollected() throws Exception {
+        final CacheableTest.Foo kept = new CacheableTest.Foo(1L);
+        final long first = kept.owned();
+        final WeakReference<CacheableTest.Foo> ref = new WeakReference<>(
+            new CacheableTest.Foo(2L)
+        );
+        ref.get().owned();
+        MatcherAssert.assertThat(
+            CacheableTest.size("owned()"),
+            Matchers.equalTo(2L)
+        );
+        for (int attempt = 0; attempt < 100
+            && CacheableTest.size("owned()") != 1L; ++attempt) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(50L);
+        }
+        MatcherAssert.assertThat(ref.get(), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            CacheableTest.size("owned()"),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(kept.owned(), Matchers.equalTo(first));
+    }
+
+    @Test
+    void cachesExceptionsForShortTime() throws Exception {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final AtomicInteger attempts = new AtomicInteger();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> foo.unavailable(attempts)
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> foo.unavailable(attempts)
+        );
+        MatcherAssert.assertThat(attempts.get(), Matchers.equalTo(1));
+        TimeUnit.MILLISECONDS.sleep(400L);
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> foo.unavailable(attempts)
+        );
+        MatcherAssert.assertThat(attempts.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void removesExceptionsAfterNegativeLifetime() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new CacheableTest.Foo(1L).refused(attempts)
+        );
+        final String method = String.format(
+            "refused(%s)", AtomicInteger.class.getName()
+        );
+        MatcherAssert.assertThat(
+            CacheableTest.size(method),
+            Matchers.equalTo(1L)
+        );
+        final long deadline = System.currentTimeMillis() + 5000L;
+        while (CacheableTest.size(method) != 0L
+            && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50L);
+        }
+        MatcherAssert.assertThat(
+            CacheableTest.size(method),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void keepsNoExceptionsWithZeroNegativeLifetime() {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final AtomicInteger attempts = new AtomicInteger();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> foo.rejected(attempts)
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> foo.rejected(attempts)
+        );
+        MatcherAssert.assertThat(attempts.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void dropsFailedFutures() {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final AtomicInteger attempts = new AtomicInteger();
+        MatcherAssert.assertThat(
+            foo.promised(attempts).isCompletedExceptionally(),
+            Matchers.is(true)
+        );
+        final CompletableFuture<Integer> pending = foo.promised(attempts);
+        MatcherAssert.assertThat(
+            foo.promised(attempts),
+            Matchers.sameInstance(pending)
+        );
+        MatcherAssert.assertThat(attempts.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void retriesAfterFailure() {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final AtomicInteger attempts = new AtomicInteger();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> foo.fragile(attempts)
+        );
+        MatcherAssert.assertThat(foo.fragile(attempts), Matchers.equalTo(2));
+        MatcherAssert.assertThat(foo.fragile(attempts), Matchers.equalTo(2));
+    }
+
+    @Test
+    void invalidatesByTag() {
+        final CacheableTest.Foo foo = new CacheableTest.Foo(1L);
+        final CacheableTest.Foo other = new CacheableTest.Foo(2L);
+        final long tagged = foo.tagged();
+        final long kept = foo.untagged();
+        other.evict();
+        MatcherAssert.assertThat(foo.untagged(), Matchers.equalTo(kept));
+        MatcherAssert.assertThat(
+            foo.tagged(),
+            Matchers.not(Matchers.equalTo(tagged))
+        );
+    }
+
     @Test
     void flushesWithStaticTrigger() {
         final CacheableTest.Bar bar = new CacheableTest.Bar();
@@ -135,6 +395,28 @@ final class CacheableTest {
         );
     }
 
+    /**
+     * Amount of values of the method in cache, as reported through JMX.
+     * @param method Name and parameters of the method of {@link Foo}
+     * @return Amount of values
+     * @throws Exception If fails
+     */
+    private static long size(final String method) throws Exception {
+        return (Long) ManagementFactory.getPlatformMBeanServer().getAttribute(
+            new ObjectName(
+                String.format(
+                    "com.jcabi.aspects:type=MethodCacher,name=%s",
+                    ObjectName.quote(
+                        String.format(
+                            "%s.%s", CacheableTest.Foo.class.getName(), method
+                        )
+                    )
+                )
+            ),
+            "Size"
+        );
+    }
+
     /**
      * Dummy class, for tests above.
      * @since 0.0.0
@@ -191,6 +473,177 @@ final class CacheableTest {
             return new CacheableTest.Foo(CacheableTest.RANDOM.nextLong());
         }
 
+        /**
+         * Calculate something random for the given numbers.
+         * @param numbers The numbers
+         * @return Random number
+         */
+        @Cacheable(unit = TimeUnit.SECONDS)
+        public long sum(final int[] numbers) {
+            return CacheableTest.RANDOM.nextLong() + numbers.length;
+        }
+
+        /**
+         * Calculate something random, keeping just two results in cache.
+         * @param number The number
+         * @return Random number
+         */
+        @Cacheable(forever = true, maxSize = 2)
+        public long bounded(final int number) {
+            return CacheableTest.RANDOM.nextLong() + number;
+        }
+
+        /**
+         * Make a long random text, about 400 bytes.
+         * @param number The number
+         * @return Random text
+         */
+        @Cacheable(forever = true, maxWeight = 1000L)
+        public String heavy(final int number) {
+            final char[] text = new char[200];
+            Arrays.fill(text, (char) ('a' + number));
+            return String.valueOf(CacheableTest.RANDOM.nextLong())
+                .concat(new String(text));
+        }
+
+        /**
+         * Calculate something random, for this object only.
+         * @return Random number
+         */
+        @Cacheable(forever = true)
+        public long owned() {
+            return CacheableTest.RANDOM.nextLong() + this.number;
+        }
+
+        /**
+         * Calculate something random, for a short moment.
+         * @return Random number
+         */
+        @Cacheable(lifetime = 200, unit = TimeUnit.MILLISECONDS)
+        public long brief() {
+            return CacheableTest.RANDOM.nextLong();
+        }
+
+        /**
+         * Build some text, to be kept off-heap.
+         * @return Random text
+         */
+        @Cacheable(offHeap = true)
+        public String serialized() {
+            return Long.toString(CacheableTest.RANDOM.nextLong());
+        }
+
+        /**
+         * Calculate something random, refreshing it ahead of time.
+         * @return Random number
+         */
+        @Cacheable(unit = TimeUnit.SECONDS, refreshAhead = 0.5d)
+        public long ahead() {
+            return CacheableTest.RANDOM.nextLong();
+        }
+
+        /**
+         * Calculate something random, for the number only.
+         * @param number The number
+         * @param noise Argument, which is not a part of the key
+         * @return Random number
+         */
+        @Cacheable(unit = TimeUnit.SECONDS)
+        public long selected(@Cacheable.Include final int number,
+            final Object noise) {
+            return CacheableTest.RANDOM.nextLong() + number + noise.hashCode();
+        }
+
+        /**
+         * Calculate something random, for the prefix of the text only.
+         * @param text The text
+         * @return Random number
+         */
+        @Cacheable(unit = TimeUnit.SECONDS, key = CacheableTest.Prefix.class)
+        public long extracted(final String text) {
+            return CacheableTest.RANDOM.nextLong() + text.length();
+        }
+
+        /**
+         * Always fail, keeping the failure in cache for a short time.
+         * @param attempts Counter of attempts
+         * @return Never returns
+         */
+        @Cacheable(
+            lifetime = 5000, unit = TimeUnit.MILLISECONDS,
+            negativeLifetime = 200,
+            cacheExceptions = IllegalStateException.class
+        )
+        public int unavailable(final AtomicInteger attempts) {
+            throw new IllegalStateException(
+                String.format("attempt #%d failed", attempts.incrementAndGet())
+            );
+        }
+
+        /**
+         * Always fail, keeping the failure for a short time.
+         * @param attempts Counter of attempts
+         * @return Never returns
+         */
+        @Cacheable(
+            lifetime = 5000, unit = TimeUnit.MILLISECONDS,
+            negativeLifetime = 200,
+            cacheExceptions = IllegalStateException.class
+        )
+        public int refused(final AtomicInteger attempts) {
+            throw new IllegalStateException(
+                String.format("attempt #%d refused", attempts.incrementAndGet())
+            );
+        }
+
+        /**
+         * Always fail, without keeping the failure in cache.
+         * @param attempts Counter of attempts
+         * @return Never returns
+         */
+        @Cacheable(
+            lifetime = 5000, unit = TimeUnit.MILLISECONDS,
+            negativeLifetime = 0,
+            cacheExceptions = IllegalStateException.class
+        )
+        public int rejected(final AtomicInteger attempts) {
+            throw new IllegalStateException(
+                String.format("attempt #%d rejected", attempts.incrementAndGet())
+            );
+        }
+
+        /**
+         * Make a future, which fails on the first attempt and never
+         * completes on the others.
+         * @param attempts Counter of attempts
+         * @return The future
+         */
+        @Cacheable(unit = TimeUnit.SECONDS)
+        public CompletableFuture<Integer> promised(
+            final AtomicInteger attempts) {
+            final CompletableFuture<Integer> future = new CompletableFuture<>();
+            if (attempts.incrementAndGet() == 1) {
+                future.completeExceptionally(
+                    new IllegalStateException("first future fails")
+                );
+            }
+            return future;
+        }
+
+        /**
+         * Fail on the first attempt only.
+         * @param attempts Counter of attempts
+         * @return Number of the attempt
+         */
+        @Cacheable(unit = TimeUnit.SECONDS)
+        public int fragile(final AtomicInteger attempts) {
+            final int attempt = attempts.incrementAndGet();
+            if (attempt == 1) {
+                throw new IllegalStateException("first attempt fails");
+            }
+            return attempt;
+        }
+
         /**
          * Sleep forever, to abuse caching system.
          * @return The same object
@@ -206,6 +659,32 @@ final class CacheableTest {
             return this;
         }
 
+        /**
+         * Get a random number, with a tag.
+         * @return The number
+         */
+        @Cacheable(unit = TimeUnit.SECONDS, tags = "numbers")
+        public long tagged() {
+            return CacheableTest.RANDOM.nextLong();
+        }
+
+        /**
+         * Get a random number, with another tag.
+         * @return The number
+         */
+        @Cacheable(unit = TimeUnit.SECONDS, tags = "others")
+        public long untagged() {
+            return CacheableTest.RANDOM.nextLong();
+        }
+
+        /**
+         * Evict all numbers, of all objects.
+         */
+        @Cacheable.Evict(tags = "numbers")
+        public void evict() {
+            // nothing to do
+        }
+
         /**
          * Flush it.
          */
@@ -232,6 +711,17 @@ final class CacheableTest {
         }
     }
 
+    /**
+     * Extractor of the text before the colon.
+     * @since 1.0
+     */
+    public static final class Prefix implements Cacheable.Extractor {
+        @Override
+        public Object[] extract(final Object... args) {
+            return new Object[] {args[0].toString().split(":")[0]};
+        }
+    }
+
     /**
      * Dummy class, for tests above.
      * @since 0.0.0
@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of {@link Loggable} methods, when their level of logging is
+ * disabled, compared with the same methods without the annotation.
+ *
+ * <p>It is not a unit test and it is not executed during the build. Run
+ * it from the IDE, or from the command line, with the test classpath:
+ * {@code java com.jcabi.aspects.LoggableBenchmark}. The difference
+ * between "annotated" and "plain" lines of the report is the overhead of
+ * the annotation; the "gc.alloc.rate.norm" line shows how many bytes are
+ * allocated per call.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings({"PMD.ProhibitPublicStaticMethods", "PMD.ClassNotFinal"})
+public class LoggableBenchmark {
+
+    /**
+     * Run all benchmarks of this class.
+     * @param args Command line arguments, ignored
+     * @throws RunnerException If fails
+     */
+    public static void main(final String... args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(LoggableBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+
+    /**
+     * Call of a method with disabled logging.
+     * @return The value
+     */
+    @Benchmark
+    public String annotated() {
+        return this.logged(1, "one");
+    }
+
+    /**
+     * Call of the same method without the annotation.
+     * @return The value
+     */
+    @Benchmark
+    public String plain() {
+        return this.unlogged(1, "one");
+    }
+
+    /**
+     * Concatenate, with logging at TRACE level, which is disabled.
+     * @param number The number
+     * @param suffix The suffix
+     * @return The text
+     */
+    @Loggable(value = Loggable.TRACE, prepend = true)
+    public String logged(final int number, final String suffix) {
+        return suffix + number;
+    }
+
+    /**
+     * Concatenate, without logging.
+     * @param number The number
+     * @param suffix The suffix
+     * @return The text
+     */
+    public String unlogged(final int number, final String suffix) {
+        return suffix + number;
+    }
+}
@@ -10,7 +10,9 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
+import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.apache.log4j.PatternLayout;
 import org.apache.log4j.SimpleLayout;
@@ -167,6 +169,55 @@ final class LoggableTest {
         );
     }
 
+    @Test
+    void logsAsynchronously() throws Exception {
+        final StringWriter writer = new StringWriter();
+        Logger.getRootLogger().addAppender(
+            new WriterAppender(new SimpleLayout(), writer)
+        );
+        LoggableTest.Foo.asynchronous();
+        final long deadline = System.currentTimeMillis() + 5000L;
+        while (!writer.toString().contains("some static text")
+            && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        MatcherAssert.assertThat(
+            writer.toString(),
+            Matchers.containsString("#asynchronous(): 'some static text'")
+        );
+    }
+
+    @Test
+    void noticesLevelChangedAtRuntime() throws Exception {
+        final StringWriter writer = new StringWriter();
+        Logger.getRootLogger().addAppender(
+            new WriterAppender(new PatternLayout("%c: %m%n"), writer)
+        );
+        LoggableTest.Foo.switched();
+        MatcherAssert.assertThat(
+            writer.toString(),
+            Matchers.not(Matchers.containsString("switched-logger"))
+        );
+        Logger.getLogger("switched-logger").setLevel(Level.DEBUG);
+        final long deadline = System.currentTimeMillis() + 5000L;
+        while (!writer.toString().contains("switched-logger")
+            && System.currentTimeMillis() < deadline) {
+            LoggableTest.Foo.switched();
+            TimeUnit.MILLISECONDS.sleep(100L);
+        }
+        MatcherAssert.assertThat(
+            writer.toString(),
+            Matchers.containsString("switched-logger: #switched()")
+        );
+    }
+
+    @Test
+    void rendersNothingWhenLevelIsDisabled() {
+        final AtomicInteger renders = new AtomicInteger();
+        LoggableTest.Foo.silent(new LoggableTest.Counted(renders));
+        MatcherAssert.assertThat(renders.get(), Matchers.equalTo(0));
+    }
+
     /**
      * Parent class, without logging.
      * @since 0.0.0
@@ -227,6 +278,34 @@ final class LoggableTest {
             return LoggableTest.Foo.hiddenText();
         }
 
+        /**
+         * Method logged asynchronously.
+         * @return A String
+         */
+        @Loggable(value = Loggable.DEBUG, async = true)
+        public static String asynchronous() {
+            return LoggableTest.Foo.hiddenText();
+        }
+
+        /**
+         * Method logged by a logger, which is disabled at first.
+         * @return A String
+         */
+        @Loggable(value = Loggable.DEBUG, name = "switched-logger")
+        public static String switched() {
+            return LoggableTest.Foo.hiddenText();
+        }
+
+        /**
+         * Method logged at a level that is disabled.
+         * @param arg Some object
+         * @return The same object
+         */
+        @Loggable(value = Loggable.TRACE, prepend = true)
+        public static Object silent(final Object arg) {
+            return arg;
+        }
+
         /**
          * Revert string.
          * @param text Some text
@@ -315,6 +394,30 @@ final class LoggableTest {
         }
     }
 
+    /**
+     * Object that counts how many times it is rendered.
+     * @since 0.0.0
+     */
+    private static final class Counted {
+        /**
+         * Counter of renders.
+         */
+        private final transient AtomicInteger renders;
+
+        /**
+         * Ctor.
+         * @param counter Counter of renders
+         */
+        Counted(final AtomicInteger counter) {
+            this.renders = counter;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("#%d", this.renders.incrementAndGet());
+        }
+    }
+
     /**
      * Matcher that checks if a string contains the given pattern.
      * @since 0.0.0
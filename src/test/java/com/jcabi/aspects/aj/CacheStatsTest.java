@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link CacheStats}.
+ *
+ * @since 1.0
+ */
+final class CacheStatsTest {
+
+    @Test
+    void calculatesHitRate() throws Exception {
+        final CacheStats stats = new CacheStats(
+            Object.class.getMethod("toString"), () -> 1L
+        );
+        stats.miss();
+        stats.hit();
+        stats.hit();
+        stats.hit();
+        MatcherAssert.assertThat(stats.getHitRate(), Matchers.equalTo(0.75d));
+        stats.reset();
+        MatcherAssert.assertThat(stats.getHitRate(), Matchers.equalTo(0.0d));
+    }
+
+    @Test
+    void registersInJmx() throws Exception {
+        final CacheStats stats = new CacheStats(
+            Object.class.getMethod("equals", Object.class), () -> 7L
+        );
+        stats.hit();
+        stats.register();
+        final ObjectName name = new ObjectName(
+            String.format(
+                "com.jcabi.aspects:type=MethodCacher,name=%s",
+                ObjectName.quote("java.lang.Object.equals(java.lang.Object)")
+            )
+        );
+        MatcherAssert.assertThat(
+            ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Hits"),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Size"),
+            Matchers.equalTo(7L)
+        );
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+    }
+
+}
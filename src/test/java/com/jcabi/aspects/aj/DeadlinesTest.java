@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.util.LinkedList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Deadlines}.
+ *
+ * @since 1.0
+ */
+final class DeadlinesTest {
+
+    @Test
+    void deliversOnlyDueItems() {
+        final Deadlines<String> deadlines = new Deadlines<>(10L);
+        deadlines.schedule("first", 100L);
+        deadlines.schedule("second", 105L);
+        deadlines.schedule("third", 500L);
+        final List<String> expired = new LinkedList<>();
+        deadlines.expire(104L, expired::add);
+        MatcherAssert.assertThat(expired, Matchers.contains("first"));
+        deadlines.expire(110L, expired::add);
+        MatcherAssert.assertThat(
+            expired,
+            Matchers.contains("first", "second")
+        );
+        MatcherAssert.assertThat(deadlines.size(), Matchers.equalTo(1));
+    }
+
+    @Test
+    void forgetsCancelledItems() {
+        final Deadlines<String> deadlines = new Deadlines<>(10L);
+        deadlines.schedule("kept", 100L);
+        deadlines.schedule("cancelled", 100L);
+        deadlines.cancel("cancelled", 100L);
+        deadlines.cancel("unknown", 300L);
+        final List<String> expired = new LinkedList<>();
+        deadlines.expire(100L, expired::add);
+        MatcherAssert.assertThat(expired, Matchers.contains("kept"));
+    }
+
+    @Test
+    void deliversItemsScheduledInThePast() {
+        final Deadlines<String> deadlines = new Deadlines<>(100L);
+        deadlines.expire(1000L, item -> { });
+        deadlines.schedule("late", 0L);
+        final List<String> expired = new LinkedList<>();
+        deadlines.expire(1000L, expired::add);
+        MatcherAssert.assertThat(expired, Matchers.contains("late"));
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Estimator}.
+ *
+ * @since 1.0
+ */
+final class EstimatorTest {
+
+    @Test
+    void weighsStringsAndArrays() {
+        final Estimator estimator = new Estimator();
+        MatcherAssert.assertThat(estimator.weigh(null), Matchers.equalTo(0L));
+        MatcherAssert.assertThat(
+            estimator.weigh("hello"),
+            Matchers.equalTo(42L)
+        );
+        MatcherAssert.assertThat(
+            estimator.weigh(new long[10]),
+            Matchers.equalTo(96L)
+        );
+    }
+
+    @Test
+    void weighsElementsDeeply() {
+        final Object value = Collections.singletonMap(
+            "key", Arrays.asList("a", "b")
+        );
+        MatcherAssert.assertThat(
+            new Estimator().weigh(value),
+            Matchers.greaterThan(new Estimator(0).weigh(value))
+        );
+    }
+
+}
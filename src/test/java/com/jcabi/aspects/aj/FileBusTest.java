@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link FileBus}.
+ *
+ * @since 1.0
+ */
+final class FileBusTest {
+
+    @Test
+    void deliversThroughFile(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("events.bus");
+        final FileBus first = new FileBus(file);
+        final FileBus second = new FileBus(file);
+        final LinkedBlockingQueue<Collection<String>> mine =
+            new LinkedBlockingQueue<>();
+        final LinkedBlockingQueue<Collection<String>> theirs =
+            new LinkedBlockingQueue<>();
+        first.subscribe(mine::add);
+        second.subscribe(theirs::add);
+        first.publish(Arrays.asList("tag:users", "class:Foo"));
+        MatcherAssert.assertThat(
+            theirs.poll(1L, TimeUnit.MINUTES),
+            Matchers.contains("tag:users", "class:Foo")
+        );
+        MatcherAssert.assertThat(
+            mine.poll(300L, TimeUnit.MILLISECONDS),
+            Matchers.nullValue()
+        );
+    }
+
+    @Test
+    void deliversEverythingAfterTruncation(@TempDir final Path dir)
+        throws Exception {
+        final Path file = dir.resolve("large.bus");
+        final FileBus first = new FileBus(file);
+        final FileBus second = new FileBus(file);
+        final LinkedBlockingQueue<Collection<String>> theirs =
+            new LinkedBlockingQueue<>();
+        second.subscribe(theirs::add);
+        final char[] text = new char[1 << 20];
+        Arrays.fill(text, 'x');
+        first.publish(Collections.singletonList(new String(text)));
+        first.publish(Collections.singletonList("tag:last"));
+        Collection<String> events = theirs.poll(1L, TimeUnit.MINUTES);
+        while (!events.contains("tag:last")) {
+            events = theirs.poll(1L, TimeUnit.MINUTES);
+        }
+        MatcherAssert.assertThat(events, Matchers.hasItem(CacheBus.EVERYTHING));
+    }
+
+    @Test
+    void survivesBrokenRecords(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("broken.bus");
+        final FileBus first = new FileBus(file);
+        final FileBus second = new FileBus(file);
+        final LinkedBlockingQueue<Collection<String>> theirs =
+            new LinkedBlockingQueue<>();
+        second.subscribe(theirs::add);
+        first.publish(Collections.singletonList("tag:before"));
+        theirs.poll(1L, TimeUnit.MINUTES);
+        Files.write(
+            file, new byte[] {-1, -1, -1, -1}, StandardOpenOption.APPEND
+        );
+        final Collection<String> seen = new LinkedList<>();
+        first.publish(Collections.singletonList("tag:after"));
+        while (!seen.contains(CacheBus.EVERYTHING)) {
+            seen.addAll(theirs.poll(1L, TimeUnit.MINUTES));
+        }
+        first.publish(Collections.singletonList("tag:last"));
+        while (!seen.contains("tag:last")) {
+            seen.addAll(theirs.poll(1L, TimeUnit.MINUTES));
+        }
+        MatcherAssert.assertThat(seen, Matchers.hasItem("tag:last"));
+    }
+
+}
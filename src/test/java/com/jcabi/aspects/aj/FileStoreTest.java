@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link FileStore}.
+ *
+ * @since 1.0
+ */
+final class FileStoreTest {
+
+    @Test
+    void loadsSavedEntries(@TempDir final Path dir) {
+        final List<Object> key = Arrays.asList("a()", 1, "x");
+        new FileStore(dir).save(
+            Collections.singletonMap(
+                key,
+                new CacheStore.Entry("alpha", Long.MAX_VALUE)
+            )
+        ).join();
+        MatcherAssert.assertThat(
+            new FileStore(dir).load(Collections.singletonList(key))
+                .join().get(key).value(),
+            Matchers.equalTo("alpha")
+        );
+    }
+
+    @Test
+    void forgetsRemovedAndExpiredEntries(@TempDir final Path dir) {
+        final FileStore store = new FileStore(dir);
+        final List<Object> removed = Arrays.asList("b()", 2);
+        final List<Object> expired = Arrays.asList("c()", 3);
+        store.save(
+            Collections.singletonMap(
+                removed, new CacheStore.Entry("beta", Long.MAX_VALUE)
+            )
+        ).join();
+        store.save(
+            Collections.singletonMap(expired, new CacheStore.Entry("", 1L))
+        ).join();
+        store.remove(Collections.singletonList(removed)).join();
+        MatcherAssert.assertThat(
+            store.load(Arrays.asList(removed, expired)).join().entrySet(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void refusesDirectoryWritableByOthers(@TempDir final Path dir)
+        throws Exception {
+        final Path open = dir.resolve("open");
+        Files.createDirectory(open);
+        Files.setPosixFilePermissions(
+            open, PosixFilePermissions.fromString("rwxrwxrwx")
+        );
+        final List<Object> key = Arrays.asList("d()", 4);
+        Assertions.assertThrows(
+            CompletionException.class,
+            () -> new FileStore(open).save(
+                Collections.singletonMap(
+                    key, new CacheStore.Entry("delta", Long.MAX_VALUE)
+                )
+            ).join()
+        );
+        MatcherAssert.assertThat(
+            new FileStore(open).load(Collections.singletonList(key))
+                .join().entrySet(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void createsDirectoryForOwnerOnly(@TempDir final Path dir)
+        throws Exception {
+        final Path store = dir.resolve("store");
+        new FileStore(store).save(
+            Collections.singletonMap(
+                Arrays.asList("e()", 5),
+                new CacheStore.Entry("epsilon", Long.MAX_VALUE)
+            )
+        ).join();
+        MatcherAssert.assertThat(
+            PosixFilePermissions.toString(
+                Files.getPosixFilePermissions(store)
+            ),
+            Matchers.equalTo("rwx------")
+        );
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LocalBus}.
+ *
+ * @since 1.0
+ */
+final class LocalBusTest {
+
+    @Test
+    void deliversToOthersOnly() {
+        final Collection<LocalBus> all = new CopyOnWriteArrayList<>();
+        final LocalBus first = new LocalBus(all);
+        final LocalBus second = new LocalBus(all);
+        final Collection<String> mine = new LinkedList<>();
+        final Collection<String> theirs = new LinkedList<>();
+        first.subscribe(mine::addAll);
+        second.subscribe(theirs::addAll);
+        first.publish(Collections.singletonList("tag:users"));
+        MatcherAssert.assertThat(mine, Matchers.empty());
+        MatcherAssert.assertThat(theirs, Matchers.contains("tag:users"));
+    }
+
+    @Test
+    void forgetsClosedBuses() {
+        final Collection<LocalBus> all = new CopyOnWriteArrayList<>();
+        final LocalBus first = new LocalBus(all);
+        final LocalBus second = new LocalBus(all);
+        final Collection<String> theirs = new LinkedList<>();
+        first.subscribe(events -> { });
+        second.subscribe(theirs::addAll);
+        second.close();
+        first.publish(Collections.singletonList("tag:orders"));
+        MatcherAssert.assertThat(theirs, Matchers.empty());
+        MatcherAssert.assertThat(all, Matchers.contains(first));
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Loggable;
+import java.io.StringWriter;
+import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import org.apache.log4j.Appender;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import org.apache.log4j.SimpleLayout;
+import org.apache.log4j.WriterAppender;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LogRing}.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class LogRingTest {
+
+    @Test
+    void dropsLinesWhenFullAndReportsThem() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Collection<Object> rendered = new CopyOnWriteArrayList<>();
+        final LogRing ring = new LogRing(
+            2, false, LogRingTest.renderer(release, rendered)
+        );
+        final Logger root = LogManager.getRootLogger();
+        final StringWriter writer = new StringWriter();
+        final Appender appender =
+            new WriterAppender(new SimpleLayout(), writer);
+        root.addAppender(appender);
+        try {
+            int accepted = 0;
+            for (int idx = 0; idx < 10; ++idx) {
+                if (LogRingTest.publish(ring, idx)) {
+                    ++accepted;
+                }
+            }
+            release.countDown();
+            MatcherAssert.assertThat(accepted, Matchers.lessThan(10));
+            final int expected = accepted;
+            LogRingTest.await(
+                () -> writer.toString().contains("dropped")
+                    && rendered.size() == expected
+            );
+            MatcherAssert.assertThat(rendered.size(), Matchers.equalTo(accepted));
+            MatcherAssert.assertThat(
+                writer.toString(),
+                Matchers.containsString(
+                    String.format(
+                        "%d @Loggable line(s) dropped", 10 - accepted
+                    )
+                )
+            );
+        } finally {
+            root.removeAppender(appender);
+        }
+    }
+
+    @Test
+    void blocksCallersUntilSlotIsFree() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Collection<Object> rendered = new CopyOnWriteArrayList<>();
+        final LogRing ring = new LogRing(
+            2, true, LogRingTest.renderer(release, rendered)
+        );
+        final Thread publisher = new Thread(
+            () -> {
+                for (int idx = 0; idx < 10; ++idx) {
+                    LogRingTest.publish(ring, idx);
+                }
+            }
+        );
+        publisher.start();
+        publisher.join(200L);
+        MatcherAssert.assertThat(publisher.isAlive(), Matchers.is(true));
+        release.countDown();
+        publisher.join(5000L);
+        MatcherAssert.assertThat(publisher.isAlive(), Matchers.is(false));
+        LogRingTest.await(() -> rendered.size() == 10);
+        MatcherAssert.assertThat(rendered.size(), Matchers.equalTo(10));
+    }
+
+    @Test
+    void neverBlocksRendererOnItself() throws Exception {
+        final Collection<Object> rendered = new CopyOnWriteArrayList<>();
+        final AtomicReference<LogRing> ring = new AtomicReference<>();
+        ring.set(
+            new LogRing(
+                2, true,
+                (kind, point, annotation, value, nano) -> {
+                    if (Integer.valueOf(0).equals(value)) {
+                        for (int idx = 1; idx < 5; ++idx) {
+                            LogRingTest.publish(ring.get(), idx);
+                        }
+                    }
+                    rendered.add(value);
+                    return String.valueOf(value);
+                }
+            )
+        );
+        LogRingTest.publish(ring.get(), 0);
+        LogRingTest.await(() -> rendered.size() == 5);
+        MatcherAssert.assertThat(rendered.size(), Matchers.equalTo(5));
+    }
+
+    /**
+     * Publish a line with the value.
+     * @param ring The ring
+     * @param value The value
+     * @return TRUE if accepted
+     */
+    private static boolean publish(final LogRing ring, final int value) {
+        return ring.publish(
+            LogRing.Kind.RETURNED, Loggable.DEBUG, "log-ring",
+            null, null, value, 0L
+        );
+    }
+
+    /**
+     * Make a renderer, which waits for the latch and keeps values.
+     * @param release The latch
+     * @param rendered Where to keep values
+     * @return The renderer
+     */
+    private static LogRing.Renderer renderer(final CountDownLatch release,
+        final Collection<Object> rendered) {
+        return (kind, point, annotation, value, nano) -> {
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            rendered.add(value);
+            return String.valueOf(value);
+        };
+    }
+
+    /**
+     * Wait until the condition is met, but not longer than five seconds.
+     * @param condition The condition
+     * @throws InterruptedException If interrupted
+     */
+    private static void await(final BooleanSupplier condition)
+        throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000L;
+        while (!condition.getAsBoolean()
+            && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+    }
+
+}
@@ -0,0 +1,315 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import com.jcabi.aspects.Cacheable;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link MethodCacher}.
+ *
+ * @since 1.0
+ */
+final class MethodCacherTest {
+
+    @Test
+    void expiresByItsClock() throws Throwable {
+        final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+        final MethodCacher cacher = new MethodCacher(now::get);
+        final AtomicInteger calls = new AtomicInteger();
+        final ProceedingJoinPoint point = MethodCacherTest.point(
+            MethodCacherTest.Text.class.getMethod("text"),
+            new MethodCacherTest.Text(),
+            calls
+        );
+        final Object first = cacher.cache(point);
+        now.addAndGet(900L);
+        MatcherAssert.assertThat(cacher.cache(point), Matchers.equalTo(first));
+        now.addAndGet(200L);
+        MatcherAssert.assertThat(
+            cacher.cache(point),
+            Matchers.not(Matchers.equalTo(first))
+        );
+        MatcherAssert.assertThat(calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void expiresExactlyAtDeadline() throws Throwable {
+        final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+        final MethodCacher cacher = new MethodCacher(now::get);
+        final AtomicInteger calls = new AtomicInteger();
+        final ProceedingJoinPoint point = MethodCacherTest.point(
+            MethodCacherTest.Text.class.getMethod("text"),
+            new MethodCacherTest.Text(),
+            calls
+        );
+        final Object first = cacher.cache(point);
+        now.addAndGet(1000L);
+        MatcherAssert.assertThat(
+            cacher.cache(point),
+            Matchers.not(Matchers.equalTo(first))
+        );
+        MatcherAssert.assertThat(calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void expiresFutureWhichNeverCompletes() throws Throwable {
+        final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+        final MethodCacher cacher = new MethodCacher(now::get);
+        final AtomicInteger calls = new AtomicInteger();
+        final ProceedingJoinPoint point = MethodCacherTest.promise(calls);
+        final Object first = cacher.cache(point);
+        now.addAndGet(900L);
+        MatcherAssert.assertThat(
+            cacher.cache(point),
+            Matchers.sameInstance(first)
+        );
+        now.addAndGet(200L);
+        MatcherAssert.assertThat(
+            cacher.cache(point),
+            Matchers.not(Matchers.sameInstance(first))
+        );
+        MatcherAssert.assertThat(calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void startsLifetimeOfFutureWhenItCompletes() throws Throwable {
+        final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+        final MethodCacher cacher = new MethodCacher(now::get);
+        final AtomicInteger calls = new AtomicInteger();
+        final ProceedingJoinPoint point = MethodCacherTest.promise(calls);
+        final Object first = cacher.cache(point);
+        now.addAndGet(900L);
+        ((CompletableFuture<?>) first).complete(null);
+        now.addAndGet(900L);
+        MatcherAssert.assertThat(
+            cacher.cache(point),
+            Matchers.sameInstance(first)
+        );
+        now.addAndGet(200L);
+        MatcherAssert.assertThat(
+            cacher.cache(point),
+            Matchers.not(Matchers.sameInstance(first))
+        );
+        MatcherAssert.assertThat(calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void toleratesNonPositiveUpdateSettings() throws Throwable {
+        final MethodCacher cacher;
+        System.setProperty("jcabi.cacheable.update-threads", "0");
+        System.setProperty("jcabi.cacheable.update-queue", "-1");
+        try {
+            cacher = new MethodCacher(System::currentTimeMillis);
+        } finally {
+            System.clearProperty("jcabi.cacheable.update-threads");
+            System.clearProperty("jcabi.cacheable.update-queue");
+        }
+        final AtomicInteger calls = new AtomicInteger();
+        final ProceedingJoinPoint point = MethodCacherTest.point(
+            MethodCacherTest.Text.class.getMethod("text"),
+            new MethodCacherTest.Text(),
+            calls
+        );
+        final Object first = cacher.cache(point);
+        MatcherAssert.assertThat(cacher.cache(point), Matchers.equalTo(first));
+        MatcherAssert.assertThat(calls.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    void findsValueWhenArgumentIsCachedToo() throws Throwable {
+        final MethodCacher cacher = new MethodCacher(System::currentTimeMillis);
+        final AtomicInteger inner = new AtomicInteger();
+        final ProceedingJoinPoint text = MethodCacherTest.point(
+            MethodCacherTest.Text.class.getMethod("text"),
+            new MethodCacherTest.Text(),
+            inner
+        );
+        final Object arg = new Object() {
+            @Override
+            public int hashCode() {
+                try {
+                    return cacher.cache(text).hashCode();
+                // @checkstyle IllegalCatch (1 line)
+                } catch (final Throwable ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        };
+        final AtomicInteger calls = new AtomicInteger();
+        final ProceedingJoinPoint echo = MethodCacherTest.point(
+            MethodCacherTest.Text.class.getMethod("echo", Object.class),
+            new MethodCacherTest.Text(),
+            calls,
+            arg
+        );
+        final Object first = cacher.cache(echo);
+        MatcherAssert.assertThat(cacher.cache(echo), Matchers.equalTo(first));
+        MatcherAssert.assertThat(calls.get(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(inner.get(), Matchers.equalTo(1));
+    }
+
+    @Test
+    void flushesInheritedValuesThroughBus() throws Throwable {
+        final MethodCacher first;
+        final MethodCacher second;
+        System.setProperty("jcabi.cacheable.bus", LocalBus.class.getName());
+        try {
+            first = new MethodCacher(System::currentTimeMillis);
+            second = new MethodCacher(System::currentTimeMillis);
+        } finally {
+            System.clearProperty("jcabi.cacheable.bus");
+        }
+        final MethodCacherTest.Child child = new MethodCacherTest.Child();
+        final AtomicInteger calls = new AtomicInteger();
+        final ProceedingJoinPoint name = MethodCacherTest.point(
+            MethodCacherTest.Base.class.getMethod("name"), child, calls
+        );
+        final Object cached = first.cache(name);
+        second.preflush(
+            MethodCacherTest.point(
+                MethodCacherTest.Child.class.getMethod("reset"),
+                child,
+                new AtomicInteger()
+            )
+        );
+        final long deadline = System.currentTimeMillis() + 5000L;
+        while (first.cache(name).equals(cached)
+            && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50L);
+        }
+        MatcherAssert.assertThat(calls.get(), Matchers.equalTo(2));
+    }
+
+    /**
+     * Make a join point of the method.
+     * @param method The method
+     * @param target Its object
+     * @param calls Counter of calls
+     * @param args Arguments of the call
+     * @return The join point
+     * @throws Throwable If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static ProceedingJoinPoint point(final Method method,
+        final Object target, final AtomicInteger calls, final Object... args)
+        throws Throwable {
+        final MethodSignature signature = Mockito.mock(MethodSignature.class);
+        Mockito.when(signature.getMethod()).thenReturn(method);
+        Mockito.when(signature.getDeclaringType())
+            .thenReturn(method.getDeclaringClass());
+        final JoinPoint.StaticPart part =
+            Mockito.mock(JoinPoint.StaticPart.class);
+        Mockito.when(part.getSignature()).thenReturn(signature);
+        final ProceedingJoinPoint point =
+            Mockito.mock(ProceedingJoinPoint.class);
+        Mockito.when(point.getStaticPart()).thenReturn(part);
+        Mockito.when(point.getSignature()).thenReturn(signature);
+        Mockito.when(point.getTarget()).thenReturn(target);
+        Mockito.when(point.getArgs()).thenReturn(args);
+        Mockito.when(point.proceed()).thenAnswer(
+            invocation -> Integer.toString(calls.incrementAndGet())
+        );
+        return point;
+    }
+
+    /**
+     * Make a join point of the method, which returns futures that never
+     * complete by themselves.
+     * @param calls Counter of calls
+     * @return The join point
+     * @throws Throwable If fails
+     */
+    private static ProceedingJoinPoint promise(final AtomicInteger calls)
+        throws Throwable {
+        final ProceedingJoinPoint point = MethodCacherTest.point(
+            MethodCacherTest.Text.class.getMethod("promise"),
+            new MethodCacherTest.Text(),
+            new AtomicInteger()
+        );
+        Mockito.when(point.proceed()).thenAnswer(
+            invocation -> {
+                calls.incrementAndGet();
+                return new CompletableFuture<String>();
+            }
+        );
+        return point;
+    }
+
+    /**
+     * Dummy class, for tests above.
+     * @since 1.0
+     */
+    public static final class Text {
+        /**
+         * Get some text.
+         * @return The text
+         */
+        @Cacheable(lifetime = 1, unit = TimeUnit.SECONDS)
+        public String text() {
+            return "";
+        }
+
+        /**
+         * Get the text later.
+         * @return The future text
+         */
+        @Cacheable(lifetime = 1, unit = TimeUnit.SECONDS)
+        public CompletableFuture<String> promise() {
+            return new CompletableFuture<>();
+        }
+
+        /**
+         * Get the same object.
+         * @param arg The object
+         * @return The object
+         */
+        @Cacheable(forever = true)
+        public Object echo(final Object arg) {
+            return arg;
+        }
+    }
+
+    /**
+     * Base class with a cached method, for tests above.
+     * @since 1.0
+     */
+    public static class Base {
+        /**
+         * Get the name.
+         * @return The name
+         */
+        @Cacheable(forever = true)
+        public String name() {
+            return "";
+        }
+    }
+
+    /**
+     * Subclass, which flushes cache, for tests above.
+     * @since 1.0
+     */
+    public static final class Child extends MethodCacherTest.Base {
+        /**
+         * Flush cached values of this object.
+         */
+        @Cacheable.FlushBefore
+        public void reset() {
+            // nothing to do, the aspect flushes cache
+        }
+    }
+
+}
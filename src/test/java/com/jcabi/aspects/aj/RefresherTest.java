@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Refresher}.
+ *
+ * @since 1.0
+ */
+final class RefresherTest {
+
+    @Test
+    void acceptsOneUpdatePerKey() throws Exception {
+        final Refresher refresher = new Refresher(2, 8);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicInteger runs = new AtomicInteger();
+        final Runnable task = () -> {
+            try {
+                latch.await(1L, TimeUnit.MINUTES);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            runs.incrementAndGet();
+        };
+        MatcherAssert.assertThat(
+            refresher.submit("first", task),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            refresher.submit("first", task),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            refresher.submit("second", task),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(refresher.pending(), Matchers.equalTo(2));
+        latch.countDown();
+        while (refresher.pending() > 0) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        MatcherAssert.assertThat(runs.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    void runsUpdateInCallerWhenQueueIsFull() throws Exception {
+        final Refresher refresher = new Refresher(1, 1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Runnable blocker = () -> {
+            try {
+                latch.await(1L, TimeUnit.MINUTES);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        };
+        refresher.submit("running", blocker);
+        refresher.submit("waiting", blocker);
+        final Thread[] runner = new Thread[1];
+        refresher.submit("third", () -> runner[0] = Thread.currentThread());
+        latch.countDown();
+        MatcherAssert.assertThat(
+            runner[0],
+            Matchers.equalTo(Thread.currentThread())
+        );
+    }
+
+}
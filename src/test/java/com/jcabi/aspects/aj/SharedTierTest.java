@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link SharedTier}.
+ *
+ * @since 1.0
+ */
+final class SharedTierTest {
+
+    @Test
+    void savesEntriesInBatches(@TempDir final Path dir) {
+        final FileStore store = new FileStore(dir);
+        final SharedTier tier = new SharedTier(store);
+        final List<Object> key = Arrays.asList("d()", 4);
+        tier.put(key, "delta", Long.MAX_VALUE);
+        MatcherAssert.assertThat(
+            tier.find(key, 0L).value(),
+            Matchers.equalTo("delta")
+        );
+        MatcherAssert.assertThat(
+            store.load(Collections.singletonList(key)).join().entrySet(),
+            Matchers.empty()
+        );
+        tier.flush();
+        MatcherAssert.assertThat(
+            store.load(Collections.singletonList(key)).join().get(key).value(),
+            Matchers.equalTo("delta")
+        );
+    }
+
+    @Test
+    void skipsExpiredEntries(@TempDir final Path dir) {
+        final SharedTier tier = new SharedTier(new FileStore(dir));
+        final List<Object> key = Arrays.asList("e()", 5);
+        tier.put(key, "epsilon", 100L);
+        MatcherAssert.assertThat(tier.find(key, 200L), Matchers.nullValue());
+    }
+
+    @Test
+    void givesUpOnSlowStore(@TempDir final Path dir) {
+        final FileStore store = new FileStore(dir);
+        final SharedTier tier = new SharedTier(
+            new CacheStore() {
+                @Override
+                public CompletableFuture<Map<List<Object>, CacheStore.Entry>>
+                    load(final Collection<List<Object>> keys) {
+                    return new CompletableFuture<>();
+                }
+
+                @Override
+                public CompletableFuture<Void> save(
+                    final Map<List<Object>, CacheStore.Entry> entries) {
+                    return store.save(entries);
+                }
+
+                @Override
+                public CompletableFuture<Void> remove(
+                    final Collection<List<Object>> keys) {
+                    return store.remove(keys);
+                }
+            },
+            10L
+        );
+        MatcherAssert.assertThat(
+            tier.find(Arrays.asList("f()", 6), 0L),
+            Matchers.nullValue()
+        );
+    }
+
+    @Test
+    void removesOnlyAfterSaveInProgress() {
+        final SharedTierTest.Slow store = new SharedTierTest.Slow();
+        final SharedTier tier = new SharedTier(store);
+        final List<Object> key = Arrays.asList("g()", 7);
+        tier.put(key, "eta", Long.MAX_VALUE);
+        tier.flush();
+        tier.remove(key);
+        MatcherAssert.assertThat(store.calls, Matchers.contains("save"));
+        store.saving.complete(null);
+        MatcherAssert.assertThat(
+            store.calls,
+            Matchers.contains("save", "remove")
+        );
+        MatcherAssert.assertThat(tier.find(key, 0L), Matchers.nullValue());
+    }
+
+    @Test
+    void keepsEntriesUntilTheyAreSaved() {
+        final SharedTierTest.Slow store = new SharedTierTest.Slow();
+        final SharedTier tier = new SharedTier(store);
+        final List<Object> key = Arrays.asList("h()", 8);
+        tier.put(key, "theta", Long.MAX_VALUE);
+        tier.flush();
+        MatcherAssert.assertThat(
+            tier.find(key, 0L).value(),
+            Matchers.equalTo("theta")
+        );
+        tier.put(key, "iota", Long.MAX_VALUE);
+        store.saving.complete(null);
+        MatcherAssert.assertThat(
+            tier.find(key, 0L).value(),
+            Matchers.equalTo("iota")
+        );
+    }
+
+    /**
+     * Store, which saves only when told to and finds nothing.
+     *
+     * @since 1.0
+     */
+    private static final class Slow implements CacheStore {
+        /**
+         * Names of calls, in their order.
+         */
+        private final transient List<String> calls =
+            new CopyOnWriteArrayList<>();
+
+        /**
+         * Completed when saving is done.
+         */
+        private final transient CompletableFuture<Void> saving =
+            new CompletableFuture<>();
+
+        @Override
+        public CompletableFuture<Map<List<Object>, CacheStore.Entry>> load(
+            final Collection<List<Object>> keys) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+
+        @Override
+        public CompletableFuture<Void> save(
+            final Map<List<Object>, CacheStore.Entry> entries) {
+            this.calls.add("save");
+            return this.saving;
+        }
+
+        @Override
+        public CompletableFuture<Void> remove(
+            final Collection<List<Object>> keys) {
+            this.calls.add("remove");
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+}
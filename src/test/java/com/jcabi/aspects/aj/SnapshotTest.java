@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.aspects.aj;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Snapshot}.
+ *
+ * @since 1.0
+ */
+final class SnapshotTest {
+
+    @Test
+    void restoresSavedEntries(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("cache.bin");
+        new Snapshot(file).save(
+            Arrays.asList(
+                new Snapshot.Entry("a()", new Object[] {1, "x"}, "alpha", 500L),
+                new Snapshot.Entry("b()", new Object[0], "beta", 100L),
+                new Snapshot.Entry("c()", new Object[] {new Object()}, "", 500L)
+            )
+        );
+        final Snapshot snapshot = new Snapshot(file);
+        MatcherAssert.assertThat(snapshot.load(200L), Matchers.equalTo(1));
+        MatcherAssert.assertThat(
+            snapshot.restore("a()", new Object[] {1, "x"}, 300L).value(),
+            Matchers.equalTo("alpha")
+        );
+        MatcherAssert.assertThat(
+            snapshot.restore("a()", new Object[] {1, "x"}, 300L),
+            Matchers.nullValue()
+        );
+    }
+
+    @Test
+    void skipsEntriesExpiredAfterLoading(@TempDir final Path dir)
+        throws Exception {
+        final Path file = dir.resolve("expired.bin");
+        new Snapshot(file).save(
+            Arrays.asList(
+                new Snapshot.Entry("d()", new Object[0], 1L, 500L)
+            )
+        );
+        final Snapshot snapshot = new Snapshot(file);
+        snapshot.load(0L);
+        MatcherAssert.assertThat(
+            snapshot.restore("d()", new Object[0], 600L),
+            Matchers.nullValue()
+        );
+    }
+
+    @Test
+    void stopsAtBrokenRecord(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("broken.bin");
+        new Snapshot(file).save(
+            Arrays.asList(
+                new Snapshot.Entry("e()", new Object[0], "epsilon", 500L),
+                new Snapshot.Entry("f()", new Object[0], "phi", 500L)
+            )
+        );
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+        MatcherAssert.assertThat(
+            new Snapshot(file).load(200L), Matchers.equalTo(1)
+        );
+        Files.write(file, new byte[] {-1, -1, -1, -1, 0});
+        MatcherAssert.assertThat(
+            new Snapshot(file).load(200L), Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void loadsOnlyAllowedClasses(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("classes.bin");
+        new Snapshot(file).save(
+            Arrays.asList(
+                new Snapshot.Entry("g()", new Object[0], new Point(1, 2), 500L),
+                new Snapshot.Entry("h()", new Object[] {3L}, "eta", 500L)
+            )
+        );
+        MatcherAssert.assertThat(
+            new Snapshot(file).load(200L), Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            new Snapshot(file, "java.awt.").load(200L), Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void refusesFileWritableByOthers(@TempDir final Path dir)
+        throws Exception {
+        final Path file = dir.resolve("open.bin");
+        new Snapshot(file).save(
+            Arrays.asList(
+                new Snapshot.Entry("i()", new Object[0], "iota", 500L)
+            )
+        );
+        Files.setPosixFilePermissions(
+            file, PosixFilePermissions.fromString("rw-rw-rw-")
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Snapshot(file).load(200L)
+        );
+    }
+
+    @Test
+    void deletesTemporaryFileIfSavingFails(@TempDir final Path dir)
+        throws Exception {
+        final Path file = dir.resolve("busy");
+        Files.createDirectories(file.resolve("inside"));
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Snapshot(file).save(
+                Arrays.asList(
+                    new Snapshot.Entry("j()", new Object[0], "jota", 500L)
+                )
+            )
+        );
+        try (Stream<Path> files = Files.list(dir)) {
+            MatcherAssert.assertThat(
+                files.collect(Collectors.toList()),
+                Matchers.contains(file)
+            );
+        }
+    }
+}